@@ -35,6 +35,16 @@ public @interface Entity {
      */
     String discriminatorKey() default ".";
 
+    /**
+     * Entities decoded lazily carry only their ID until the first call to one of their methods which then decodes the remaining
+     * properties. This can save considerable work for queries which read many documents but only look at a few of them.
+     *
+     * @return true if the entities of this type should be decoded lazily
+     * @see dev.morphia.query.FindOptions#lazy(boolean)
+     * @since 3.0
+     */
+    boolean lazy() default false;
+
     /**
      * @return true if the discriminator for this type should be stored
      */
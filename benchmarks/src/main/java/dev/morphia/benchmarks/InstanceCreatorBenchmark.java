@@ -0,0 +1,108 @@
+package dev.morphia.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.ReflectiveMapper;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.internal.ConstructorCreator;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building a constructor creator from scratch for every decoded document with reusing the cached plan held by the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstanceCreatorBenchmark {
+    private EntityModel model;
+    private Constructor<?> constructor;
+    private Conversions conversions;
+    private List<PropertyModel> properties;
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        ReflectiveMapper mapper = new ReflectiveMapper(MorphiaConfig.load());
+        model = mapper.map(Reading.class).get(0);
+        conversions = mapper.getConversions();
+        constructor = ConstructorCreator.bestConstructor(model);
+        properties = model.getProperties();
+        values = new Object[properties.size()];
+        for (int i = 0; i < properties.size(); i++) {
+            values[i] = sample(properties.get(i).getType());
+        }
+    }
+
+    @Benchmark
+    public Object perDocumentCreator() {
+        return populate(new ConstructorCreator(model, constructor, conversions));
+    }
+
+    @Benchmark
+    public Object cachedPlan() {
+        return populate(model.getInstanceCreator(conversions));
+    }
+
+    private Object populate(MorphiaInstanceCreator creator) {
+        for (int i = 0; i < values.length; i++) {
+            creator.set(values[i], properties.get(i));
+        }
+        return creator.getInstance();
+    }
+
+    private static Object sample(Class<?> type) {
+        if (type.equals(ObjectId.class)) {
+            return new ObjectId();
+        } else if (type.equals(String.class)) {
+            return "sensor-42";
+        } else if (type.equals(long.class)) {
+            return 1_700_000_000_000L;
+        } else if (type.equals(double.class)) {
+            return 21.5;
+        } else {
+            return 3;
+        }
+    }
+
+    @Entity
+    public static final class Reading {
+        @Id
+        private final ObjectId id;
+        private final String sensor;
+        private final String unit;
+        private final long timestamp;
+        private final double value;
+        private final int quality;
+
+        public Reading(ObjectId id, String sensor, String unit, long timestamp, double value, int quality) {
+            this.id = id;
+            this.sensor = sensor;
+            this.unit = unit;
+            this.timestamp = timestamp;
+            this.value = value;
+            this.quality = quality;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package dev.morphia.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import dev.morphia.Morphia;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.config.MorphiaConfig;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonObjectId;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding and encoding large numeric arrays and lists. {@code Double[]} properties still go through the generic element by
+ * element array codec which {@code double[]} properties used before they had a dedicated codec, so the boxed benchmarks show the cost of
+ * the previous path. The list benchmarks compare the default {@code ArrayList} decoding with compact numeric lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumericArrayBenchmark {
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private MongoClient client;
+    private Codec<double[]> primitiveCodec;
+    private Codec<Double[]> boxedCodec;
+    private Codec<Series> boxedListCodec;
+    private Codec<Series> compactListCodec;
+    private RawBsonDocument array;
+    private RawBsonDocument series;
+    private double[] primitives;
+    private Double[] boxed;
+
+    @Setup
+    public void setup() {
+        // the client only connects once an operation needs the server
+        client = MongoClients.create();
+        MorphiaConfig config = MorphiaConfig.load().database("benchmarks");
+        MorphiaDatastore datastore = (MorphiaDatastore) Morphia.createDatastore(client, config);
+        MorphiaDatastore compact = (MorphiaDatastore) Morphia.createDatastore(client, config.compactNumericLists(true));
+        primitiveCodec = datastore.getCodecRegistry().get(double[].class);
+        boxedCodec = datastore.getCodecRegistry().get(Double[].class);
+        boxedListCodec = datastore.getCodecRegistry().get(Series.class);
+        compactListCodec = compact.getCodecRegistry().get(Series.class);
+
+        primitives = new double[size];
+        boxed = new Double[size];
+        List<BsonDouble> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            primitives[i] = i / 4.0;
+            boxed[i] = primitives[i];
+            values.add(new BsonDouble(primitives[i]));
+        }
+        array = new RawBsonDocument(new BsonDocument("values", new BsonArray(values)), new BsonDocumentCodec());
+        series = new RawBsonDocument(new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("values", new BsonArray(values)), new BsonDocumentCodec());
+    }
+
+    @TearDown
+    public void close() {
+        client.close();
+    }
+
+    @Benchmark
+    public Object decodePrimitiveArray() {
+        return decodeValues(primitiveCodec);
+    }
+
+    @Benchmark
+    public Object decodeBoxedArray() {
+        return decodeValues(boxedCodec);
+    }
+
+    @Benchmark
+    public int encodePrimitiveArray() {
+        return encodeValues(primitiveCodec, primitives);
+    }
+
+    @Benchmark
+    public int encodeBoxedArray() {
+        return encodeValues(boxedCodec, boxed);
+    }
+
+    @Benchmark
+    public Object decodeBoxedList() {
+        return boxedListCodec.decode(series.asBsonReader(), DECODER_CONTEXT);
+    }
+
+    @Benchmark
+    public Object decodeCompactList() {
+        return compactListCodec.decode(series.asBsonReader(), DECODER_CONTEXT);
+    }
+
+    private <T> T decodeValues(Codec<T> codec) {
+        var reader = array.asBsonReader();
+        reader.readStartDocument();
+        reader.readName();
+        return codec.decode(reader, DECODER_CONTEXT);
+    }
+
+    private <T> int encodeValues(Codec<T> codec, T value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(size * 9 + 64);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            writer.writeName("values");
+            codec.encode(writer, value, ENCODER_CONTEXT);
+            writer.writeEndDocument();
+        }
+        return buffer.getPosition();
+    }
+
+    @Entity
+    public static class Series {
+        @Id
+        private ObjectId id;
+        private List<Double> values;
+    }
+}
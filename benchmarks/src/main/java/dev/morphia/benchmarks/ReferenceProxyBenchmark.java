@@ -0,0 +1,123 @@
+package dev.morphia.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import dev.morphia.Morphia;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.config.MorphiaConfig;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding documents with lazy references where each reference is returned as a proxy. Lazy references are not fetched until
+ * they are used so no server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReferenceProxyBenchmark {
+    private static final DecoderContext CONTEXT = DecoderContext.builder().build();
+
+    private MongoClient client;
+    private Codec<Shelf> codec;
+    private RawBsonDocument single;
+    private RawBsonDocument list;
+    private RawBsonDocument map;
+
+    @Setup
+    public void setup() {
+        // the client only connects once an operation needs the server
+        client = MongoClients.create();
+        MorphiaDatastore datastore = (MorphiaDatastore) Morphia.createDatastore(client, MorphiaConfig.load().database("benchmarks"));
+        codec = datastore.getCodecRegistry().get(Shelf.class);
+
+        List<ObjectId> ids = new ArrayList<>();
+        Document keyed = new Document();
+        for (int i = 0; i < 10; i++) {
+            ObjectId id = new ObjectId();
+            ids.add(id);
+            keyed.append("book" + i, id);
+        }
+        single = shelf("book", ids.get(0));
+        list = shelf("books", ids);
+        map = shelf("byTitle", keyed);
+    }
+
+    @TearDown
+    public void close() {
+        client.close();
+    }
+
+    @Benchmark
+    public Object lazySingle() {
+        return codec.decode(single.asBsonReader(), CONTEXT);
+    }
+
+    @Benchmark
+    public Object lazyList() {
+        return codec.decode(list.asBsonReader(), CONTEXT);
+    }
+
+    @Benchmark
+    public Object lazyMap() {
+        return codec.decode(map.asBsonReader(), CONTEXT);
+    }
+
+    private static RawBsonDocument shelf(String property, Object value) {
+        return new RawBsonDocument(new Document("_id", new ObjectId()).append(property, value), new DocumentCodec());
+    }
+
+    @Entity
+    public static class Shelf {
+        @Id
+        private ObjectId id;
+        @Reference(lazy = true, idOnly = true)
+        private Book book;
+        @Reference(lazy = true, idOnly = true)
+        private List<Book> books;
+        @Reference(lazy = true, idOnly = true)
+        private Map<String, Book> byTitle;
+    }
+
+    @Entity
+    public static class Book {
+        @Id
+        private ObjectId id;
+        private String title;
+
+        public Book() {
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+}
@@ -232,7 +232,7 @@ public interface Datastore {
      *
      * @param entity the entity to merge back in to the database
      * @param <T>    the type of the entity
-     * @return the new merged entity. NOTE: this is a database fetch.
+     * @return the new merged entity as returned by the database
      */
     <T> T merge(T entity);
 
@@ -242,7 +242,8 @@ public interface Datastore {
      * @param entity  the entity to merge back in to the database
      * @param options the options to apply
      * @param <T>     the type of the entity
-     * @return the new merged entity. NOTE: this is a database fetch.
+     * @return the new merged entity as returned by the database or the entity passed in if
+     *         {@link InsertOneOptions#returnMerged(boolean)} is false
      * @since 2.0
      */
     <T> T merge(T entity, InsertOneOptions options);
@@ -290,7 +291,8 @@ public interface Datastore {
     <T> T replace(T entity, ReplaceOptions options);
 
     /**
-     * Replaces a list of documents in the database
+     * Replaces a list of documents in the database. The replacements are sent as a single bulk write per collection. If any of the
+     * entities could not be replaced, the first failure is thrown with any others attached as suppressed exceptions.
      *
      * @param entities the entities to replace
      * @param <T>      the type of the entity
@@ -324,7 +326,9 @@ public interface Datastore {
     }
 
     /**
-     * Saves the entities (Objects) and updates the @Id field
+     * Saves the entities (Objects) and updates the @Id field. The inserts and replacements are sent as a single bulk write per
+     * collection. If any versioned entities are out of date, the first {@link VersionMismatchException} is thrown with any others
+     * attached as suppressed exceptions.
      *
      * @param entities the entities to save
      * @param <T>      the type of the entity
@@ -0,0 +1,216 @@
+package dev.morphia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.Document;
+
+/**
+ * Describes the outcome of applying the mapped index definitions to the database.
+ *
+ * @see MorphiaDatastore#applyIndexes()
+ * @since 3.0
+ */
+public final class IndexReport {
+    private final List<IndexResult> results = new ArrayList<>();
+
+    /**
+     * Creates an empty report
+     *
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public IndexReport() {
+    }
+
+    /**
+     * Records the outcome for an index
+     *
+     * @param result the result
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public synchronized void add(IndexResult result) {
+        results.add(result);
+    }
+
+    /**
+     * Merges the results of another report in to this one
+     *
+     * @param other the other report
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public synchronized void addAll(IndexReport other) {
+        results.addAll(other.getResults());
+    }
+
+    /**
+     * @return every index result in this report
+     */
+    public synchronized List<IndexResult> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * @return the indexes which were created
+     */
+    public List<IndexResult> getCreated() {
+        return filter(Status.CREATED);
+    }
+
+    /**
+     * @return the indexes which already existed as defined
+     */
+    public List<IndexResult> getExisting() {
+        return filter(Status.EXISTING);
+    }
+
+    /**
+     * @return the indexes whose definitions conflict with an existing index and were not created
+     */
+    public List<IndexResult> getConflicted() {
+        return filter(Status.CONFLICTED);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexReport{created=%d, existing=%d, conflicted=%d}".formatted(getCreated().size(), getExisting().size(),
+                getConflicted().size());
+    }
+
+    private List<IndexResult> filter(Status status) {
+        return getResults().stream()
+                .filter(result -> result.getStatus() == status)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The outcome of applying an index definition
+     */
+    public enum Status {
+        /**
+         * The index was created
+         */
+        CREATED,
+        /**
+         * An index with the same name, keys, and options already existed
+         */
+        EXISTING,
+        /**
+         * An index with the same name or keys already existed but its definition differs
+         */
+        CONFLICTED
+    }
+
+    /**
+     * The outcome for a single index
+     */
+    public static final class IndexResult {
+        private final String collection;
+        private final String name;
+        private final Document keys;
+        private final Status status;
+        @Nullable
+        private final Document conflicting;
+        @Nullable
+        private final String reason;
+
+        /**
+         * Creates a new result
+         *
+         * @param collection the collection name
+         * @param name       the index name
+         * @param keys       the index keys
+         * @param status     the outcome
+         * @hidden
+         * @morphia.internal
+         */
+        @MorphiaInternal
+        public IndexResult(String collection, String name, Document keys, Status status) {
+            this(collection, name, keys, status, null, null);
+        }
+
+        /**
+         * Creates a new result
+         *
+         * @param collection  the collection name
+         * @param name        the index name
+         * @param keys        the index keys
+         * @param status      the outcome
+         * @param conflicting the existing index the definition conflicts with
+         * @param reason      the reason for a conflict
+         * @hidden
+         * @morphia.internal
+         */
+        @MorphiaInternal
+        public IndexResult(String collection, String name, Document keys, Status status, @Nullable Document conflicting,
+                @Nullable String reason) {
+            this.collection = collection;
+            this.name = name;
+            this.keys = keys;
+            this.status = status;
+            this.conflicting = conflicting;
+            this.reason = reason;
+        }
+
+        /**
+         * @return the collection name
+         */
+        public String getCollection() {
+            return collection;
+        }
+
+        /**
+         * @return the index name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the index keys
+         */
+        public Document getKeys() {
+            return new Document(keys);
+        }
+
+        /**
+         * @return the outcome
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return the existing index, as listed by the server with its name, keys, and options, which the definition conflicts with or
+         *         null
+         */
+        @Nullable
+        public Document getConflictingIndex() {
+            return conflicting != null ? new Document(conflicting) : null;
+        }
+
+        /**
+         * @return the reason the index conflicts with the existing one or null
+         */
+        @Nullable
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "IndexResult{collection='%s', name='%s', keys=%s, status=%s%s}".formatted(collection, name, keys.toJson(), status,
+                    reason != null ? ", reason='" + reason + "'" : "");
+        }
+    }
+}
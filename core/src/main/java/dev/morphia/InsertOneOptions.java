@@ -35,6 +35,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     private com.mongodb.client.model.InsertOneOptions options = new com.mongodb.client.model.InsertOneOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private boolean unset;
+    private boolean returnMerged = true;
     private String collection;
 
     /**
@@ -53,6 +54,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     public InsertOneOptions(InsertOneOptions that) {
         this.options = that.options;
         this.writeConcern = that.writeConcern;
+        this.returnMerged = that.returnMerged;
     }
 
     /**
@@ -158,6 +160,30 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
         return this;
     }
 
+    /**
+     * @return true if a merge should return the updated entity from the database
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean returnMerged() {
+        return returnMerged;
+    }
+
+    /**
+     * Sets whether {@link Datastore#merge(Object, InsertOneOptions)} should return the updated entity as stored in the database. When
+     * false, the merge skips fetching the updated document and returns the entity passed in.
+     *
+     * @param returnMerged true to return the updated entity. The default is true.
+     * @return this
+     * @since 3.0
+     */
+    public InsertOneOptions returnMerged(boolean returnMerged) {
+        this.returnMerged = returnMerged;
+        return this;
+    }
+
     /**
      * Set the write concern to use for the insert.
      *
@@ -2,27 +2,40 @@ package dev.morphia;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoDriverInformation;
 import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
@@ -40,11 +53,12 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.ShardKeys;
 import dev.morphia.annotations.ShardOptions;
 import dev.morphia.annotations.Validation;
-import dev.morphia.annotations.internal.IndexHelper;
+import dev.morphia.annotations.internal.IndexSynchronizer;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
 import dev.morphia.internal.CollectionConfigurable;
 import dev.morphia.internal.CollectionConfiguration;
+import dev.morphia.internal.FanOut;
 import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.WriteConfigurable;
 import dev.morphia.mapping.CritterMapper;
@@ -61,6 +75,7 @@ import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.MorphiaUpdateOperatorCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
 import dev.morphia.mapping.codec.pojo.MergingEncoder;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
@@ -77,11 +92,14 @@ import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.MorphiaTransaction;
 import dev.morphia.transactions.SessionDatastore;
 
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -108,6 +126,11 @@ public class MorphiaDatastore implements Datastore {
 
     private static final MongoDriverInformation DRIVER_INFO = buildDriverInfo();
 
+    /**
+     * Caps the number of configured collections kept so that options built with ever changing settings can not grow the cache unbounded.
+     */
+    private static final int MAX_CONFIGURED_COLLECTIONS = 1024;
+
     private static MongoDriverInformation buildDriverInfo() {
         MongoDriverInformation.Builder builder = MongoDriverInformation.builder().driverName("Morphia");
         String version = MorphiaDatastore.class.getPackage().getImplementationVersion();
@@ -137,6 +160,9 @@ public class MorphiaDatastore implements Datastore {
     private ClassLoader classLoader;
     private MongoDatabase database;
     private DatastoreOperations operations;
+    private volatile FanOut fanOut;
+    private final Map<Class<?>, MongoCollection<?>> entityCollections = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, MongoCollection<?>> configuredCollections = new ConcurrentHashMap<>();
 
     /**
      * @param client the mongo client
@@ -210,6 +236,34 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
+    /**
+     * Builds a datastore with no synchronous client. Such a datastore only hosts the mapper and the codecs, e.g. for a datastore built on
+     * another driver, and any attempt to reach the database through it fails.
+     *
+     * @param driverRegistry the codec registry of the driver in use
+     * @param config         the config
+     * @param classLoader    the classloader to use for class and resource resolution
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaDatastore(CodecRegistry driverRegistry, MorphiaConfig config, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        this.mongoClient = null;
+        this.mapper = createMapper(config, classLoader);
+        this.queryFactory = mapper.getConfig().queryFactory();
+        importModels();
+
+        codecRegistry = buildRegistry(driverRegistry);
+        operations = new CollectionOperations();
+
+        config.packages().forEach(packageName -> {
+            Sofia.logMappingPackage(packageName);
+            mapper.map(packageName);
+        });
+    }
+
     private void importModels() {
         ServiceLoader<EntityModelImporter> importers = ServiceLoader.load(EntityModelImporter.class);
         for (EntityModelImporter importer : importers) {
@@ -277,16 +331,20 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
-    public void applyIndexes() {
+    /**
+     * Applies the indexes defined on the mapped entities. Existing indexes are listed once per collection and only the missing ones are
+     * created.
+     *
+     * @return the report of which indexes were created, already existed, or conflict with an existing index
+     */
+    public IndexReport applyIndexes() {
         if (mapper.getMappedEntities().isEmpty()) {
             LOG.warn(Sofia.noMappedClasses());
         }
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        for (EntityModel model : mapper.getMappedEntities()) {
-            if (model.getIdProperty() != null) {
-                indexHelper.createIndex(getCollection(model.getType()), model);
-            }
-        }
+        List<EntityModel> models = mapper.getMappedEntities().stream()
+                .filter(model -> model.getIdProperty() != null)
+                .collect(Collectors.toList());
+        return new IndexSynchronizer(mapper, getFanOut()).synchronize(models, model -> getCollection(model.getType()));
     }
 
     public void applyDocumentValidations() {
@@ -316,6 +374,20 @@ public class MorphiaDatastore implements Datastore {
         return mapper;
     }
 
+    /**
+     * @return the fan out used to run independent operations concurrently
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public FanOut getFanOut() {
+        if (fanOut == null) {
+            fanOut = new FanOut(mapper.getConfig());
+        }
+        return fanOut;
+    }
+
     /**
      * Enables any document validation defined on the class
      *
@@ -403,21 +475,28 @@ public class MorphiaDatastore implements Datastore {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> MongoCollection<T> getCollection(Class<T> type) {
         EntityModel entityModel = mapper.getEntityModel(type);
         String collectionName = entityModel.collectionName();
 
-        MongoCollection<T> collection = getDatabase().getCollection(collectionName, type);
-
-        Entity annotation = entityModel.getEntityAnnotation();
-        if (annotation != null && !annotation.concern().equals("")) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        MongoCollection<T> collection = (MongoCollection<T>) entityCollections.get(type);
+        if (collection == null || !collection.getNamespace().getCollectionName().equals(collectionName)) {
+            collection = getDatabase().getCollection(collectionName, type);
+            WriteConcern writeConcern = entityModel.writeConcern();
+            if (writeConcern != null) {
+                collection = collection.withWriteConcern(writeConcern);
+            }
+            entityCollections.put(type, collection);
         }
         return collection;
     }
 
     @Override
     public MongoDatabase getDatabase() {
+        if (database == null) {
+            throw new IllegalStateException(Sofia.detachedDatastore());
+        }
         return database;
     }
 
@@ -447,15 +526,15 @@ public class MorphiaDatastore implements Datastore {
             Sofia.logInsertManyAlternateCollection(alternate);
         }
 
-        grouped.forEach((key, list) -> {
-            List<VersionBumpInfo> infos = list.stream()
+        getFanOut().forEach(grouped.entrySet(), entry -> {
+            List<VersionBumpInfo> infos = entry.getValue().stream()
                     .map(this::updateVersioning)
                     .collect(Collectors.toList());
 
             try {
                 MongoCollection<T> collection = configureCollection(options,
-                        (MongoCollection<T>) getCollection(key));
-                operations.insertMany(collection, list, options);
+                        (MongoCollection<T>) getCollection(entry.getKey()));
+                operations.insertMany(collection, entry.getValue(), options);
             } catch (MongoException e) {
                 infos.forEach(VersionBumpInfo::rollbackVersion);
                 throw e;
@@ -479,26 +558,41 @@ public class MorphiaDatastore implements Datastore {
 
         final Query<T> query = info.filter((Query<T>) find(entity.getClass()).filter(eq("_id", id)));
 
-        UpdateResult execute;
-        UpdateOptions updateOptions = new UpdateOptions()
-                .writeConcern(options.writeConcern());
+        List<UpdateOperator> updates;
         if (!options.unsetMissing()) {
-            execute = query.update(updateOptions, set(entity));
+            updates = List.of(set(entity));
         } else {
             MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
-            var updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
+            updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
                     .encode(entity);
-            execute = query.update(updateOptions, updates.toArray(new UpdateOperator[0]));
         }
-        if (execute.getMatchedCount() != 1) {
-            if (info.versioned()) {
-                info.rollbackVersion();
-                throw new VersionMismatchException(entity.getClass(), id);
+
+        if (!options.returnMerged()) {
+            UpdateResult execute = query.update(new UpdateOptions()
+                    .writeConcern(options.writeConcern()), updates.toArray(new UpdateOperator[0]));
+            if (execute.getMatchedCount() != 1) {
+                throw mergeFailure(entity, id, info);
             }
-            throw new UpdateException(Sofia.noMatchingDocuments());
+            return entity;
+        }
+
+        T merged = query.modify(new ModifyOptions()
+                .returnDocument(ReturnDocument.AFTER)
+                .writeConcern(options.writeConcern()),
+                updates.get(0), updates.subList(1, updates.size()).toArray(new UpdateOperator[0]));
+        if (merged == null) {
+            throw mergeFailure(entity, id, info);
         }
 
-        return (T) find(entity.getClass(), new FindOptions().limit(1)).filter(eq("_id", id)).iterator().next();
+        return merged;
+    }
+
+    private RuntimeException mergeFailure(Object entity, Object id, VersionBumpInfo info) {
+        if (info.versioned()) {
+            info.rollbackVersion();
+            return new VersionMismatchException(entity.getClass(), id);
+        }
+        return new UpdateException(Sofia.noMatchingDocuments());
     }
 
     @Override
@@ -566,11 +660,36 @@ public class MorphiaDatastore implements Datastore {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> List<T> replace(List<T> entities, ReplaceOptions options) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
         for (T entity : entities) {
-            replace(entity, options);
+            if (mapper.getId(entity) == null) {
+                throw new MissingIdException();
+            }
         }
 
+        BulkWriteOptions bulkOptions = new BulkWriteOptions()
+                .bypassDocumentValidation(options.getBypassDocumentValidation())
+                .comment(options.getComment())
+                .let(options.getLet());
+        groupByType(entities, model -> false).forEach((type, list) -> {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(type));
+            EntityModel entityModel = mapper.getEntityModel(type);
+
+            List<BulkEntry<T>> writes = new ArrayList<>(list.size());
+            for (T entity : list) {
+                Object id = mapper.getId(entity);
+                VersionBumpInfo info = updateVersioning(entity);
+                Document filter = replaceFilter(entityModel, entity, id, info);
+                writes.add(new BulkEntry<>(entity, id, info, new ReplaceOneModel<>(filter, entity, options),
+                        writtenFilter(entityModel, entity, id, info)));
+            }
+            bulkWrite(collection, entityModel, writes, bulkOptions, true);
+        });
+
         return entities;
     }
 
@@ -581,36 +700,37 @@ public class MorphiaDatastore implements Datastore {
             return List.of();
         }
 
-        Map<Class<?>, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
-        for (T entity : entities) {
-            Class<?> type = entity.getClass();
-
-            EntityModel model = getMapper().getEntityModel(type);
-            if (getMapper().getId(entity) != null || model.getVersionProperty() != null) {
-                list.add(entity);
-            } else {
-                grouped.computeIfAbsent(type, c -> new ArrayList<>())
-                        .add(entity);
-            }
-        }
+        Map<Class<?>, List<T>> grouped = groupByType(entities, model -> false);
 
         String alternate = options.collection();
         if (grouped.size() > 1 && alternate != null) {
             Sofia.logInsertManyAlternateCollection(alternate);
         }
 
+        com.mongodb.client.model.InsertManyOptions driver = options.driver();
+        BulkWriteOptions bulkOptions = new BulkWriteOptions()
+                .ordered(driver.isOrdered())
+                .bypassDocumentValidation(options.bypassDocumentValidation())
+                .comment(driver.getComment());
         for (Entry<Class<?>, List<T>> entry : grouped.entrySet()) {
             MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(entry.getKey()));
-            operations.insertMany(collection, entry.getValue(), options);
-        }
-
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                .bypassDocumentValidation(options.bypassDocumentValidation())
-                .collection(alternate)
-                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
+            EntityModel entityModel = mapper.getEntityModel(entry.getKey());
+
+            List<BulkEntry<T>> writes = new ArrayList<>(entry.getValue().size());
+            for (T entity : entry.getValue()) {
+                Object id = mapper.getId(entity);
+                VersionBumpInfo info = updateVersioning(entity);
+                if (id == null || info.versioned() && info.newVersion() == 1) {
+                    writes.add(new BulkEntry<>(entity, id, info, new InsertOneModel<>(entity), null));
+                } else {
+                    var replaceOptions = new com.mongodb.client.model.ReplaceOptions()
+                            .upsert(!info.versioned());
+                    writes.add(new BulkEntry<>(entity, id, info,
+                            new ReplaceOneModel<>(replaceFilter(entityModel, entity, id, info), entity, replaceOptions),
+                            writtenFilter(entityModel, entity, id, info)));
+                }
+            }
+            bulkWrite(collection, entityModel, writes, bulkOptions, false);
         }
         return entities;
     }
@@ -750,6 +870,130 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
+    private <T> void bulkWrite(MongoCollection<T> collection, EntityModel entityModel, List<BulkEntry<T>> writes,
+            BulkWriteOptions options, boolean strict) {
+        List<WriteModel<T>> models = new ArrayList<>(writes.size());
+        for (BulkEntry<T> write : writes) {
+            models.add(write.model);
+        }
+
+        BulkWriteResult result;
+        try {
+            result = operations.bulkWrite(collection, models, options);
+        } catch (MongoBulkWriteException e) {
+            // an ordered write stops at the first error so nothing after it was written either
+            Set<Integer> failed = new HashSet<>();
+            e.getWriteErrors().forEach(error -> failed.add(error.getIndex()));
+            int first = failed.stream().mapToInt(Integer::intValue).min().orElse(writes.size());
+            List<BulkEntry<T>> applied = new ArrayList<>(writes.size());
+            for (int i = 0; i < writes.size(); i++) {
+                BulkEntry<T> write = writes.get(i);
+                if (failed.contains(i) || options.isOrdered() && i > first) {
+                    write.info.rollbackVersion();
+                } else {
+                    applied.add(write);
+                }
+            }
+            // the writes which did go through may still have missed stale versions
+            try {
+                checkReplacements(collection, entityModel, applied, e.getWriteResult(), strict);
+            } catch (RuntimeException missed) {
+                missed.addSuppressed(e);
+                throw missed;
+            }
+            throw e;
+        } catch (MongoException e) {
+            writes.forEach(write -> write.info.rollbackVersion());
+            throw e;
+        }
+
+        checkReplacements(collection, entityModel, writes, result, strict);
+    }
+
+    private <T> void checkReplacements(MongoCollection<T> collection, EntityModel entityModel, List<BulkEntry<T>> writes,
+            BulkWriteResult result, boolean strict) {
+        if (!result.wasAcknowledged()) {
+            return;
+        }
+        List<BulkEntry<T>> replaced = new ArrayList<>();
+        for (BulkEntry<T> write : writes) {
+            if (write.written != null) {
+                replaced.add(write);
+            }
+        }
+        if (result.getMatchedCount() + result.getUpserts().size() < replaced.size()) {
+            reportMissedReplacements(collection, entityModel, replaced, strict);
+        }
+    }
+
+    /**
+     * The bulk result only carries totals so when some replacements did not match, find out which ones by looking for the documents
+     * each replacement should have produced.
+     */
+    private <T> void reportMissedReplacements(MongoCollection<T> collection, EntityModel entityModel, List<BulkEntry<T>> replaced,
+            boolean strict) {
+        List<Document> clauses = new ArrayList<>(replaced.size());
+        for (BulkEntry<T> write : replaced) {
+            clauses.add(write.written);
+        }
+        Set<BsonValue> found = new HashSet<>();
+        MongoCollection<BsonDocument> documents = collection.withDocumentClass(BsonDocument.class);
+        try (MongoCursor<BsonDocument> cursor = operations.find(documents, new Document("$or", clauses))
+                .projection(new Document("_id", 1))
+                .iterator()) {
+            cursor.forEachRemaining(document -> found.add(document.get("_id")));
+        }
+
+        RuntimeException failure = null;
+        for (BulkEntry<T> write : replaced) {
+            BsonValue id = new Document("_id", write.id).toBsonDocument(Document.class, codecRegistry).get("_id");
+            if (found.contains(id)) {
+                continue;
+            }
+            RuntimeException missed;
+            if (write.info.versioned()) {
+                write.info.rollbackVersion();
+                missed = new VersionMismatchException(write.entity.getClass(), write.id);
+            } else if (!strict) {
+                continue;
+            } else if (!entityModel.getShardKeys().isEmpty()) {
+                missed = new MappingException(noShardKeyMatch(entityModel.getShardKeys()
+                        .stream().map(PropertyModel::getMappedName)
+                        .collect(joining(", "))));
+            } else {
+                missed = new MappingException(noDocumentsUpdated(write.id));
+            }
+            if (failure == null) {
+                failure = missed;
+            } else {
+                failure.addSuppressed(missed);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> Document replaceFilter(EntityModel entityModel, T entity, Object id, VersionBumpInfo info) {
+        Document filter = new Document("_id", id);
+        info.filter(filter);
+        entityModel.getShardKeys().forEach((property) -> {
+            filter.put(property.getMappedName(), property.getValue(entity));
+        });
+        return filter;
+    }
+
+    private <T> Document writtenFilter(EntityModel entityModel, T entity, Object id, VersionBumpInfo info) {
+        Document filter = new Document("_id", id);
+        if (info.versioned()) {
+            filter.put(info.versionProperty.getMappedName(), info.newVersion());
+        }
+        entityModel.getShardKeys().forEach((property) -> {
+            filter.put(property.getMappedName(), property.getValue(entity));
+        });
+        return filter;
+    }
+
     private <T> Codec<T> getRefreshCodec(T entity) {
         for (MorphiaCodecProvider codecProvider : morphiaCodecProviders) {
             Codec<T> refreshCodec = codecProvider.getRefreshCodec(entity, codecRegistry);
@@ -808,7 +1052,48 @@ public class MorphiaDatastore implements Datastore {
      */
     @NonNull
     @MorphiaInternal
+    @SuppressWarnings("unchecked")
     public <T> MongoCollection<T> configureCollection(CollectionConfiguration options, MongoCollection<T> collection) {
+        String alternateName = options instanceof CollectionConfigurable ? ((CollectionConfigurable<?>) options).collection() : null;
+        ReadConcern readConcern = null;
+        ReadPreference readPreference = null;
+        WriteConcern writeConcern = null;
+        if (options instanceof ReadConfigurable) {
+            readConcern = ((ReadConfigurable<?>) options).readConcern();
+            readPreference = ((ReadConfigurable<?>) options).readPreference();
+        }
+        if (options instanceof WriteConfigurable) {
+            writeConcern = ((WriteConfigurable<?>) options).writeConcern();
+        }
+        if (alternateName == null && readConcern == null && readPreference == null && writeConcern == null) {
+            return collection;
+        }
+
+        // the key describes the configured collection in full so equal keys can share one instance
+        CollectionKey key;
+        if (alternateName != null) {
+            MongoDatabase db = getDatabase();
+            key = new CollectionKey(db.getName() + "." + alternateName, collection.getDocumentClass(), db.getCodecRegistry(),
+                    readConcern != null ? readConcern : db.getReadConcern(),
+                    readPreference != null ? readPreference : db.getReadPreference(),
+                    writeConcern != null ? writeConcern : db.getWriteConcern());
+        } else {
+            key = new CollectionKey(collection.getNamespace().getFullName(), collection.getDocumentClass(), collection.getCodecRegistry(),
+                    readConcern != null ? readConcern : collection.getReadConcern(),
+                    readPreference != null ? readPreference : collection.getReadPreference(),
+                    writeConcern != null ? writeConcern : collection.getWriteConcern());
+        }
+        MongoCollection<T> configured = (MongoCollection<T>) configuredCollections.get(key);
+        if (configured == null) {
+            configured = prepareCollection(options, collection);
+            if (configuredCollections.size() < MAX_CONFIGURED_COLLECTIONS) {
+                configuredCollections.putIfAbsent(key, configured);
+            }
+        }
+        return configured;
+    }
+
+    private <T> MongoCollection<T> prepareCollection(CollectionConfiguration options, MongoCollection<T> collection) {
         if (options instanceof CollectionConfigurable) {
             collection = ((CollectionConfigurable<?>) options).prepare(collection, getDatabase());
         }
@@ -822,6 +1107,10 @@ public class MorphiaDatastore implements Datastore {
     }
 
     private <T> VersionBumpInfo updateVersioning(T entity) {
+        if (entity instanceof LazyEntity.Proxy) {
+            // a lazy entity only carries its ID until it is decoded. the version and shard keys are read from its fields directly.
+            ((LazyEntity.Proxy) entity).unwrap();
+        }
         final EntityModel entityModel = mapper.getEntityModel(entity.getClass());
         PropertyModel versionProperty = entityModel.getVersionProperty();
         if (versionProperty != null) {
@@ -869,12 +1158,17 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
-    public <T> void ensureIndexes(Class<T> type) {
+    /**
+     * Applies the indexes defined on a single type
+     *
+     * @param type the type to index
+     * @param <T>  the type
+     * @return the report of which indexes were created, already existed, or conflict with an existing index
+     */
+    public <T> IndexReport ensureIndexes(Class<T> type) {
         EntityModel model = mapper.getEntityModel(type);
-        final IndexHelper indexHelper = new IndexHelper(mapper);
-        if (model.getIdProperty() != null) {
-            indexHelper.createIndex(getCollection(type), model);
-        }
+        List<EntityModel> models = model.getIdProperty() != null ? List.of(model) : List.of();
+        return new IndexSynchronizer(mapper, getFanOut()).synchronize(models, m -> getCollection(type));
     }
 
     /**
@@ -911,6 +1205,9 @@ public class MorphiaDatastore implements Datastore {
     }
 
     protected MongoClient getMongoClient() {
+        if (mongoClient == null) {
+            throw new IllegalStateException(Sofia.detachedDatastore());
+        }
         return mongoClient;
     }
 
@@ -925,45 +1222,51 @@ public class MorphiaDatastore implements Datastore {
 
     private class CollectionOperations extends DatastoreOperations {
         @Override
-        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline) {
+        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline) {
             return (AggregateIterable<T>) collection.aggregate(pipeline);
         }
 
         @Override
-        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline, Class<?> resultType) {
+        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline, Class<?> resultType) {
             return (AggregateIterable<T>) collection.aggregate(pipeline, resultType);
         }
 
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options) {
             return collection.findOneAndUpdate(query, update, options);
         }
 
+        @Override
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options);
+        }
+
         @Override
         public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
             return collection.insertMany(list, options.driver());
@@ -987,19 +1290,19 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             try {
                 return collection.updateOne(query, updates, options);
@@ -1009,7 +1312,7 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
@@ -1027,7 +1330,7 @@ public class MorphiaDatastore implements Datastore {
          * @hidden
          * @morphia.internal
          */
-        public abstract <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline);
+        public abstract <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline);
 
         /**
          * @param collection the collection to aggregate
@@ -1038,7 +1341,21 @@ public class MorphiaDatastore implements Datastore {
          * @hidden
          * @morphia.internal
          */
-        public abstract <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline, Class<?> resultType);
+        public abstract <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline,
+                Class<?> resultType);
+
+        /**
+         * Executes a mix of inserts, updates, replaces, and deletes.
+         *
+         * @param collection the collection to use
+         * @param requests   the writes to execute
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public abstract <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options);
 
         /**
          * Counts the number of documents in the collection according to the given options.
@@ -1049,7 +1366,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the count of documents found
          * @param <T> the entity type
          */
-        public abstract <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options);
+        public abstract <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options);
 
         /**
          * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not
@@ -1061,7 +1378,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Document query, DeleteOptions options);
+        public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options);
 
         /**
          * Removes one document from the collection that match the given query filter. If no documents match, the collection is not
@@ -1073,7 +1390,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Document query, DeleteOptions options);
+        public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options);
 
         /**
          * Finds all documents in the collection.
@@ -1083,7 +1400,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> FindIterable<T> find(MongoCollection<T> collection, Document query);
+        public abstract <T> FindIterable<T> find(MongoCollection<T> collection, Bson query);
 
         /**
          * Atomically find a document and remove it.
@@ -1095,7 +1412,7 @@ public class MorphiaDatastore implements Datastore {
          * @param <T> the entity type
          */
         @Nullable
-        public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Document query, FindAndDeleteOptions options);
+        public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options);
 
         /**
          * Atomically find a document and update it.
@@ -1108,7 +1425,7 @@ public class MorphiaDatastore implements Datastore {
          * @param <T> the entity type
          */
         @Nullable
-        public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options);
+        public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options);
 
         /**
          * Inserts one or more documents.
@@ -1162,7 +1479,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options);
 
         /**
          * Updates one or more documents.
@@ -1174,7 +1491,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options);
 
         /**
@@ -1187,7 +1504,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options);
 
         /**
          * Updates one document.
@@ -1199,7 +1516,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options);
 
     }
@@ -1216,6 +1533,24 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
+    @MorphiaInternal
+    private static class BulkEntry<T> {
+        private final T entity;
+        private final Object id;
+        private final VersionBumpInfo info;
+        private final WriteModel<T> model;
+        @Nullable
+        private final Document written;
+
+        private BulkEntry(T entity, @Nullable Object id, VersionBumpInfo info, WriteModel<T> model, @Nullable Document written) {
+            this.entity = entity;
+            this.id = id;
+            this.info = info;
+            this.model = model;
+            this.written = written;
+        }
+    }
+
     @MorphiaInternal
     private static class VersionBumpInfo {
         private final Object entity;
@@ -1276,4 +1611,8 @@ public class MorphiaDatastore implements Datastore {
             return versioned;
         }
     }
+
+    private record CollectionKey(String namespace, Class<?> documentClass, CodecRegistry codecRegistry, ReadConcern readConcern,
+            ReadPreference readPreference, WriteConcern writeConcern) {
+    }
 }
@@ -14,12 +14,15 @@ import dev.morphia.aggregation.stages.Merge;
 import dev.morphia.aggregation.stages.Out;
 import dev.morphia.aggregation.stages.Stage;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.writer.DirectWriter;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.MorphiaCursor;
 import dev.morphia.query.filters.Filter;
 import dev.morphia.sofia.Sofia;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -107,11 +110,12 @@ public class AggregationImpl<T> implements Aggregation<T> {
     @Override
     public MorphiaCursor<T> iterator() {
         if (iterator == null) {
-            List<Document> pipeline = pipeline();
+            List<Bson> pipeline = encodePipeline();
             if (LOG.isDebugEnabled()) {
                 LOG.debug("pipeline = " + pipeline);
             }
-            iterator = new MorphiaCursor<>(options.apply(pipeline, datastore, collection, targetType).iterator());
+            iterator = new MorphiaCursor<>(datastore, null, options.readAhead(),
+                    () -> options.apply(pipeline, datastore, collection, targetType).iterator());
         }
         MorphiaCursor<T> cursor = iterator;
         iterator = null;
@@ -131,6 +135,20 @@ public class AggregationImpl<T> implements Aggregation<T> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Encodes each stage straight to BSON falling back to {@link DocumentWriter} for stages which can not be encoded directly.
+     * {@link #pipeline()} remains the {@code Document} view used for debugging and testing.
+     */
+    private List<Bson> encodePipeline() {
+        List<Bson> pipeline = new ArrayList<>();
+        for (Stage stage : stages) {
+            RawBsonDocument encoded = DirectWriter.encode(datastore.getCodecRegistry(), stage);
+            pipeline.add(encoded != null ? encoded
+                    : DocumentWriter.encode(stage, datastore.getMapper(), datastore.getCodecRegistry()));
+        }
+        return pipeline;
+    }
+
     private Aggregation<T> addStage(Stage stage) {
         stages.add(stage);
         return this;
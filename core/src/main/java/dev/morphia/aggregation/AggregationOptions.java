@@ -19,6 +19,7 @@ import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.WriteConfigurable;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * Defines options to be applied to an aggregation pipeline.
@@ -36,6 +37,7 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
     private Document let;
     private Long maxAwaitTime;
     private Long maxTimeMS;
+    private int readAhead;
     private ReadConcern readConcern;
     private ReadPreference readPreference;
     private TimeoutMode timeoutMode;
@@ -216,6 +218,33 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
         return this;
     }
 
+    /**
+     * Reads and decodes results on a background thread while the caller consumes the results already read. At most {@code size}
+     * results are buffered ahead of the caller. Once the buffer is full, reading pauses until the caller catches up. Aggregations run in
+     * a session are always read on the calling thread.
+     *
+     * @param size the number of results to buffer ahead of the caller or 0 to disable reading ahead
+     * @return this
+     * @see dev.morphia.query.FindOptions#readAhead(int)
+     * @see dev.morphia.query.MorphiaCursor#getReadAheadStatistics()
+     * @since 3.0
+     */
+    public AggregationOptions readAhead(int size) {
+        this.readAhead = Math.max(size, 0);
+        return this;
+    }
+
+    /**
+     * @return the number of results to read ahead or 0 if results are only read as they are requested
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int readAhead() {
+        return readAhead;
+    }
+
     /**
      * @return the configuration value
      * @hidden
@@ -329,7 +358,7 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
      * @morphia.internal
      */
     @MorphiaInternal
-    <S, T> AggregateIterable<T> apply(List<Document> pipeline,
+    <S, T> AggregateIterable<T> apply(List<? extends Bson> pipeline,
             MorphiaDatastore datastore, MongoCollection<T> collection, Class<S> resultType) {
         MongoCollection<T> preparedCollection = datastore.configureCollection(this, collection);
         AggregateIterable<T> aggregate = datastore.operations().aggregate(preparedCollection, pipeline, resultType);
@@ -8,7 +8,7 @@ import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.Collation;
@@ -179,31 +179,40 @@ public final class IndexHelper {
     }
 
     /**
-     * @param collection the collection
-     * @param model      the model
+     * Builds the full index definitions, keys and options, for a model
+     *
+     * @param model the model
+     * @return the index definitions or an empty list for interfaces and abstract types
      * @hidden
      * @morphia.internal
+     * @since 3.0
      */
     @MorphiaInternal
-    public void createIndex(MongoCollection<?> collection, EntityModel model) {
+    public List<IndexModel> toIndexModels(EntityModel model) {
+        List<IndexModel> models = new ArrayList<>();
         if (!model.isInterface() && !model.isAbstract()) {
             for (Index index : collectIndexes(model, Collections.emptyList())) {
-                createIndex(collection, model, index);
+                models.add(toIndexModel(model, index));
             }
         }
+        return models;
     }
 
     /**
-     * @param collection
-     * @param entityModel
-     * @param index
+     * Builds the full index definition, keys and options, for a single index
+     *
+     * @param model the model
+     * @param index the index
+     * @return the index definition
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
      */
-    public void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
-        Document keys = calculateKeys(entityModel, index);
+    @MorphiaInternal
+    public IndexModel toIndexModel(EntityModel model, Index index) {
         com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
         calculateWeights(index, indexOptions);
-
-        collection.createIndex(keys, indexOptions);
+        return new IndexModel(calculateKeys(model, index), indexOptions);
     }
 
     /**
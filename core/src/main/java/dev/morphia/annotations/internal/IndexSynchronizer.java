@@ -0,0 +1,286 @@
+package dev.morphia.annotations.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.IndexReport;
+import dev.morphia.IndexReport.IndexResult;
+import dev.morphia.IndexReport.Status;
+import dev.morphia.internal.FanOut;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Brings the indexes of the mapped collections in line with their {@code @Indexes}, {@code @Indexed}, and {@code @Text} definitions.
+ * <p>
+ * The existing indexes are listed once per collection and compared to the mapped definitions. The missing indexes go in a single
+ * {@code createIndexes} command per collection. A definition which shares its name or keys with an existing index but differs from it
+ * in its keys or any option is not sent. It is logged and reported as a conflict along with the existing index so that every conflict
+ * across the collections is reported rather than only the first one the server would reject. Collections are processed through the
+ * datastore's {@link FanOut} so they run concurrently as {@code MorphiaConfig.parallelism()} and {@code MorphiaConfig.executor()} allow.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class IndexSynchronizer {
+    private static final Logger LOG = LoggerFactory.getLogger(IndexSynchronizer.class);
+
+    private final IndexHelper indexHelper;
+    private final FanOut fanOut;
+
+    /**
+     * @param mapper the mapper
+     * @param fanOut runs the collections concurrently
+     */
+    public IndexSynchronizer(Mapper mapper, FanOut fanOut) {
+        this.indexHelper = new IndexHelper(mapper);
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * Applies the indexes for the given models
+     *
+     * @param models      the models to index
+     * @param collections resolves the collection for a model
+     * @return the report of what was created, what already existed, and what conflicts with the existing indexes
+     */
+    public IndexReport synchronize(Collection<EntityModel> models, Function<EntityModel, MongoCollection<?>> collections) {
+        Map<String, Target> targets = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            MongoCollection<?> collection = collections.apply(model);
+            targets.computeIfAbsent(collection.getNamespace().getFullName(), n -> new Target(collection))
+                    .models.add(model);
+        }
+
+        // every collection is compared before a failure, e.g. the server rejecting a new index, is rethrown
+        Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+        Map<String, IndexReport> reports = fanOut.mapValues(targets, (namespace, target) -> {
+            try {
+                return synchronize(target);
+            } catch (RuntimeException e) {
+                failures.put(namespace, e);
+                return new IndexReport();
+            }
+        });
+
+        IndexReport report = new IndexReport();
+        RuntimeException failure = null;
+        for (Map.Entry<String, IndexReport> entry : reports.entrySet()) {
+            report.addAll(entry.getValue());
+            RuntimeException e = failures.get(entry.getKey());
+            if (e != null) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return report;
+    }
+
+    private IndexReport synchronize(Target target) {
+        MongoCollection<?> collection = target.collection;
+        String collectionName = collection.getNamespace().getCollectionName();
+        IndexReport report = new IndexReport();
+
+        Map<String, IndexModel> defined = new LinkedHashMap<>();
+        for (EntityModel model : target.models) {
+            for (IndexModel index : indexHelper.toIndexModels(model)) {
+                defined.putIfAbsent(nameOf(index), index);
+            }
+        }
+        if (defined.isEmpty()) {
+            return report;
+        }
+
+        List<Document> existing = collection.listIndexes().into(new ArrayList<>());
+        Map<String, IndexModel> missing = new LinkedHashMap<>();
+        for (Map.Entry<String, IndexModel> entry : defined.entrySet()) {
+            String name = entry.getKey();
+            IndexModel index = entry.getValue();
+            Document match = existing.stream()
+                    .filter(e -> name.equals(e.getString("name")))
+                    .findFirst()
+                    .orElseGet(() -> existing.stream()
+                            .filter(e -> sameKeys(index, e))
+                            .findFirst()
+                            .orElse(null));
+            if (match == null) {
+                missing.put(name, index);
+            } else {
+                String conflict = conflict(name, index, match);
+                if (conflict == null) {
+                    report.add(new IndexResult(collectionName, name, (Document) index.getKeys(), Status.EXISTING));
+                } else {
+                    LOG.warn(Sofia.indexNotCreated(name, collectionName, conflict));
+                    report.add(new IndexResult(collectionName, name, (Document) index.getKeys(), Status.CONFLICTED, match, conflict));
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            collection.createIndexes(new ArrayList<>(missing.values()));
+            missing.forEach((name, index) -> report.add(new IndexResult(collectionName, name, (Document) index.getKeys(), Status.CREATED)));
+        }
+        return report;
+    }
+
+    @Nullable
+    private static String conflict(String name, IndexModel index, Document existing) {
+        String existingName = existing.getString("name");
+        if (!name.equals(existingName)) {
+            return Sofia.indexConflictName(((Document) index.getKeys()).toJson(), existingName);
+        }
+        if (!sameKeys(index, existing)) {
+            return Sofia.indexConflictKeys(name, existing.get("key", Document.class).toJson());
+        }
+        if (!sameOptions(index.getOptions(), existing)) {
+            Document options = new Document(existing);
+            options.remove("v");
+            options.remove("key");
+            options.remove("name");
+            options.remove("ns");
+            return Sofia.indexConflictOptions(name, options.toJson());
+        }
+        return null;
+    }
+
+    private static boolean sameOptions(IndexOptions options, Document existing) {
+        Long expireAfter = options.getExpireAfter(TimeUnit.SECONDS);
+        Number existingExpireAfter = (Number) existing.get("expireAfterSeconds");
+        return options.isUnique() == existing.getBoolean("unique", false)
+                && options.isSparse() == existing.getBoolean("sparse", false)
+                && options.isHidden() == existing.getBoolean("hidden", false)
+                && Objects.equals(expireAfter, existingExpireAfter != null ? existingExpireAfter.longValue() : null)
+                && sameDocument(options.getPartialFilterExpression(), existing.get("partialFilterExpression"))
+                && sameCollation(options.getCollation(), existing.get("collation", Document.class))
+                && sameDocument(options.getWildcardProjection(), existing.get("wildcardProjection"))
+                && sameIfSet(options.getDefaultLanguage(), existing.get("default_language"))
+                && sameIfSet(options.getLanguageOverride(), existing.get("language_override"))
+                && sameIfSet(options.getTextVersion(), existing.get("textIndexVersion"))
+                && sameIfSet(options.getSphereVersion(), existing.get("2dsphereIndexVersion"))
+                && sameIfSet(options.getBits(), existing.get("bits"))
+                && sameIfSet(options.getMin(), existing.get("min"))
+                && sameIfSet(options.getMax(), existing.get("max"));
+    }
+
+    private static boolean sameKeys(IndexModel index, Document existingIndex) {
+        Document keys = (Document) index.getKeys();
+        Document existing = existingIndex.get("key", Document.class);
+        if (existing == null) {
+            return false;
+        }
+        if (keys.containsValue("text")) {
+            return sameTextKeys(keys, index.getOptions().getWeights(), existing, existingIndex.get("weights", Document.class));
+        }
+        return sameValues(keys, existing);
+    }
+
+    private static boolean sameTextKeys(Document keys, @Nullable Bson definedWeights, Document existing,
+            @Nullable Document existingWeights) {
+        // text indexes are stored under _fts/_ftsx with the indexed fields and their weights kept in a separate document
+        if (!existing.containsKey("_fts") || existingWeights == null) {
+            return false;
+        }
+        Document weights = new Document();
+        Document otherKeys = new Document();
+        Document weighted = definedWeights instanceof Document document ? document
+                : definedWeights != null ? Document.parse(definedWeights.toBsonDocument().toJson()) : new Document();
+        keys.forEach((name, value) -> {
+            if ("text".equals(value)) {
+                Object weight = weighted.get(name);
+                weights.put(name, weight != null ? weight : 1);
+            } else {
+                otherKeys.put(name, value);
+            }
+        });
+        Document existingOtherKeys = new Document(existing);
+        existingOtherKeys.remove("_fts");
+        existingOtherKeys.remove("_ftsx");
+        return sameValues(otherKeys, existingOtherKeys) && weights.size() == existingWeights.size()
+                && weights.entrySet().stream().allMatch(e -> sameValue(e.getValue(), existingWeights.get(e.getKey())));
+    }
+
+    private static boolean sameValues(Document keys, Document existing) {
+        if (!new ArrayList<>(keys.keySet()).equals(new ArrayList<>(existing.keySet()))) {
+            return false;
+        }
+        return keys.entrySet().stream().allMatch(e -> sameValue(e.getValue(), existing.get(e.getKey())));
+    }
+
+    private static boolean sameValue(@Nullable Object value, @Nullable Object existing) {
+        if (value instanceof Number number && existing instanceof Number existingNumber) {
+            return number.doubleValue() == existingNumber.doubleValue();
+        }
+        return Objects.equals(value, existing);
+    }
+
+    private static boolean sameIfSet(@Nullable Object value, @Nullable Object existing) {
+        // options left unset take whatever default the server applies
+        return value == null || sameValue(value, existing);
+    }
+
+    private static boolean sameDocument(@Nullable Bson value, @Nullable Object existing) {
+        if (value == null || existing == null) {
+            return value == null && existing == null;
+        }
+        return existing instanceof Document document && value.toBsonDocument().equals(document.toBsonDocument());
+    }
+
+    private static boolean sameCollation(@Nullable Collation collation, @Nullable Document existing) {
+        if (collation == null || existing == null) {
+            return collation == null && existing == null;
+        }
+        // the server fills in every collation field so only those given in the definition are compared
+        BsonDocument defined = collation.asDocument();
+        BsonDocument stored = existing.toBsonDocument();
+        return defined.entrySet().stream().allMatch(e -> e.getValue().equals(stored.get(e.getKey())));
+    }
+
+    private static String nameOf(IndexModel index) {
+        String name = index.getOptions().getName();
+        if (name != null) {
+            return name;
+        }
+        // the same scheme the server and driver use for unnamed indexes
+        return ((Document) index.getKeys()).entrySet().stream()
+                .map(e -> e.getKey() + "_" + (e.getValue() instanceof Number ? ((Number) e.getValue()).intValue() : e.getValue()))
+                .collect(Collectors.joining("_"));
+    }
+
+    private static final class Target {
+        private final MongoCollection<?> collection;
+        private final List<EntityModel> models = new ArrayList<>();
+
+        private Target(MongoCollection<?> collection) {
+            this.collection = collection;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import com.mongodb.lang.Nullable;
@@ -40,6 +41,7 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     Optional<CodecProvider> codecProvider;
 
     NamingStrategy collectionNaming;
+    Boolean compactNumericLists;
 
     String database;
 
@@ -47,9 +49,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     DiscriminatorFunction discriminator;
     String discriminatorKey;
     Boolean enablePolymorphicQueries;
+    Optional<ExecutorService> executor;
     Boolean ignoreFinals;
     MapperType mapper;
     List<String> packages;
+    Integer parallelism;
     PropertyDiscovery propertyDiscovery;
     List<PropertyAnnotationProvider<?>> propertyAnnotationProviders;
     NamingStrategy propertyNaming;
@@ -75,14 +79,17 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         applyIndexes = base.applyIndexes();
         codecProvider = base.codecProvider();
         collectionNaming = base.collectionNaming();
+        compactNumericLists = base.compactNumericLists();
         database = base.database();
         dateStorage = base.dateStorage();
         discriminator = base.discriminator();
         discriminatorKey = base.discriminatorKey();
         enablePolymorphicQueries = base.enablePolymorphicQueries();
+        executor = base.executor();
         ignoreFinals = base.ignoreFinals();
         mapper = base.mapper();
         packages = new ArrayList<>(base.packages());
+        parallelism = base.parallelism();
         propertyAnnotationProviders = base.propertyAnnotationProviders().stream()
                 .filter(p -> !(p instanceof MorphiaPropertyAnnotationProvider))
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -111,12 +118,13 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     @Override
     public String toString() {
         return ("MorphiaConfig{applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, database='%s', codecProvider=%s, " +
-                "collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', enablePolymorphicQueries=%s, " +
-                "ignoreFinals=%s, mapper=%s, packages=%s, propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, " +
-                "storeEmpties=%s, storeNulls=%s}").formatted(
+                "collectionNaming=%s, compactNumericLists=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', " +
+                "enablePolymorphicQueries=%s, executor=%s, ignoreFinals=%s, mapper=%s, packages=%s, parallelism=%s, " +
+                "propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, storeEmpties=%s, storeNulls=%s}").formatted(
                         applyCaps(), applyDocumentValidations(), applyIndexes(), database(), codecProvider(), collectionNaming(),
-                        dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(), ignoreFinals(), mapper(),
-                        packages(), propertyDiscovery(), propertyNaming(), queryFactory(), storeEmpties(), storeNulls());
+                        compactNumericLists(), dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(),
+                        executor(), ignoreFinals(), mapper(), packages(), parallelism(), propertyDiscovery(), propertyNaming(),
+                        queryFactory(), storeEmpties(), storeNulls());
     }
 
     @Override
@@ -148,6 +156,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(collectionNaming, camelCase());
     }
 
+    @Override
+    public Boolean compactNumericLists() {
+        return orDefault(compactNumericLists, FALSE);
+    }
+
     @Override
     public DateStorage dateStorage() {
         return orDefault(dateStorage, UTC);
@@ -168,6 +181,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(enablePolymorphicQueries, FALSE);
     }
 
+    @Override
+    public Optional<ExecutorService> executor() {
+        return orDefault(executor, Optional.empty());
+    }
+
     @Override
     public Boolean ignoreFinals() {
         return orDefault(ignoreFinals, FALSE);
@@ -183,6 +201,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(packages, List.of());
     }
 
+    @Override
+    public Integer parallelism() {
+        return orDefault(parallelism, 1);
+    }
+
     @Override
     public List<PropertyAnnotationProvider<?>> propertyAnnotationProviders() {
         var providers = new ArrayList<PropertyAnnotationProvider<?>>(List.of(new MorphiaPropertyAnnotationProvider()));
@@ -2,6 +2,7 @@ package dev.morphia.config;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.PossibleValues;
@@ -234,6 +235,32 @@ public interface MorphiaConfig {
     @WithConverter(NamingStrategyConverter.class)
     NamingStrategy collectionNaming();
 
+    /**
+     * If true, properties declared as {@code List<Integer>}, {@code List<Long>}, or {@code List<Double>} (or as a {@code Collection} of
+     * those types) are decoded in to lists backed by a primitive array rather than an {@code ArrayList} of boxed values. These lists
+     * support the full {@code List} API but each element is only boxed when it is read. This reduces the memory footprint and decoding
+     * cost of large numeric lists considerably. Lists holding a {@code null} element are decoded as an {@code ArrayList} as before.
+     *
+     * @return true if numeric lists should be decoded in to compact lists
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean compactNumericLists();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig compactNumericLists(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.compactNumericLists = value;
+        return newConfig;
+    }
+
     /**
      * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
      *
@@ -340,6 +367,36 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Specifies the executor to use when running independent operations concurrently, e.g. fetching references stored in several
+     * collections or inserting entities of several types. This is only used when {@link #parallelism()} is greater than 1. If no
+     * executor is given, a virtual thread per task executor is used on JDK 21 and later and a pool of daemon threads otherwise.
+     * <p>
+     * Morphia does not shut this executor down. The executor can only be given programmatically via {@link #executor(ExecutorService)} and
+     * is not read from configuration files.
+     *
+     * @return the user configured executor
+     * @see #parallelism()
+     * @since 3.0
+     */
+    default Optional<ExecutorService> executor() {
+        return Optional.empty();
+    }
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig executor(ExecutorService value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.executor = Optional.of(value);
+        return newConfig;
+    }
+
     /**
      * Instructs Morphia to ignore final fields.
      *
@@ -429,6 +486,32 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * The maximum number of independent operations Morphia will run concurrently for a single call, e.g. the queries for references
+     * stored in several collections or the inserts for each entity type in a list. The default of 1 runs them one after another on the
+     * calling thread. Operations within a transaction always run one after another.
+     *
+     * @return the maximum number of concurrent operations
+     * @see #executor()
+     * @since 3.0
+     */
+    @WithDefault("1")
+    Integer parallelism();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig parallelism(Integer value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.parallelism = value;
+        return newConfig;
+    }
+
     /**
      * Specifies the providers of any external annotations to use as markers for properties for Morphia to consider while mapping. This
      * method is marked as internal only to note that, as a relatively lower level hook in to Morphia functionality, the regular
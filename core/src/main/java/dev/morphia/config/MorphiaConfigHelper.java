@@ -61,7 +61,7 @@ public class MorphiaConfigHelper {
         prefix = getPrefix();
         entries = stream(MorphiaConfig.class.getDeclaredMethods())
                 .sorted(Comparator.comparing(Method::getName))
-                .filter(m -> !Modifier.isStatic(m.getModifiers()))
+                .filter(m -> !Modifier.isStatic(m.getModifiers()) && !m.isDefault())
                 .filter(m -> m.getParameterCount() == 0 && !m.getReturnType().equals(MorphiaConfig.class))
                 .map(m -> getEntry(prefix, m))
                 .collect(Collectors.toList());
@@ -130,6 +130,8 @@ public class MorphiaConfigHelper {
             return ((Class<?>) value).getName();
         } else if (value instanceof Boolean) {
             return value.toString().toLowerCase();
+        } else if (value instanceof Number) {
+            return value.toString();
         } else if (value instanceof List) {
             var list = (List<?>) value;
             if (list.isEmpty()) {
@@ -1,10 +1,14 @@
 package dev.morphia.critter.parser;
 
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.mongodb.lang.Nullable;
+
 import dev.morphia.critter.CritterClassLoader;
 import dev.morphia.critter.parser.generator.CritterGenerator;
 import dev.morphia.critter.parser.generator.GenerationUtils;
@@ -68,9 +72,18 @@ public class PropertyFinder {
         List<MethodInfo> methods = discoverPropertyMethods(standinType, classModel);
         if (methods.isEmpty()) {
             List<FieldInfo> fields = discoverAllFields(standinType, classModel);
+            List<DelegatedProperty> delegatedProperties = delegatedProperties(fields);
+            List<MethodInfo> delegated = delegatedProperties.stream()
+                    .filter(DelegatedProperty::accessible)
+                    .map(DelegatedProperty::getter)
+                    .toList();
+            fields.removeAll(delegatedProperties.stream()
+                    .filter(DelegatedProperty::accessible)
+                    .map(DelegatedProperty::field)
+                    .toList());
             if (!runtimeMode) {
-                checkAotCompatibility(fields, targetType);
-                classLoader.register(targetType.getName(), critterGenerator.fieldAccessors(targetType, fields));
+                checkAotCompatibility(fields, delegatedProperties, targetType);
+                classLoader.register(targetType.getName(), critterGenerator.fieldAccessors(targetType, fields, delegated));
             }
             for (FieldInfo field : fields) {
                 if (runtimeMode) {
@@ -80,6 +93,14 @@ public class PropertyFinder {
                 }
                 models.add(critterGenerator.propertyModelGenerator(targetType, standinType, classLoader, field, runtimeMode));
             }
+            for (MethodInfo getter : delegated) {
+                if (runtimeMode) {
+                    critterGenerator.nestmateAccessor(targetType, getter);
+                } else {
+                    critterGenerator.propertyAccessor(targetType, classLoader, getter);
+                }
+                models.add(critterGenerator.propertyModelGenerator(targetType, standinType, classLoader, getter, runtimeMode));
+            }
         } else {
             if (!runtimeMode) {
                 checkAotMethodCompatibility(methods, targetType, classModel);
@@ -98,8 +119,49 @@ public class PropertyFinder {
     }
 
     private static final String ID_ANNOTATION_DESC = "Ldev/morphia/annotations/Id;";
+    private static final String DELEGATE_SUFFIX = "$delegate";
 
-    private void checkAotCompatibility(List<FieldInfo> fields, Class<?> targetType) {
+    /**
+     * Finds the Kotlin delegated properties among the given fields by their delegate fields. Those with an accessible getter and setter
+     * are read and written through the getter and setter the Kotlin compiler generates rather than through {@code KProperty}
+     * reflection. The others keep their delegate field.
+     */
+    private List<DelegatedProperty> delegatedProperties(List<FieldInfo> fields) {
+        List<DelegatedProperty> delegated = new ArrayList<>();
+        for (FieldInfo field : fields) {
+            if (!field.name().endsWith(DELEGATE_SUFFIX) || field.declaringClass() == null) {
+                continue;
+            }
+            String name = field.name().substring(0, field.name().length() - DELEGATE_SUFFIX.length());
+            ClassModel model = readClassModel(field.declaringClass());
+            MethodInfo getter = model != null ? findGetter(model, name) : null;
+            MethodInfo setter = getter != null
+                    ? findSetter(model, name, MethodTypeDesc.ofDescriptor(getter.desc()).returnType().descriptorString())
+                    : null;
+            delegated.add(new DelegatedProperty(name, field, getter, setter));
+        }
+        return delegated;
+    }
+
+    private MethodInfo findGetter(ClassModel classModel, String propertyName) {
+        String getterName = "get" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (MethodModel method : classModel.methods()) {
+            if (method.methodName().stringValue().equals(getterName) && isGetter(method)
+                    && (method.flags().flagsMask() & ClassFile.ACC_PRIVATE) == 0) {
+                return toMethodInfo(method);
+            }
+        }
+        return null;
+    }
+
+    private void checkAotCompatibility(List<FieldInfo> fields, List<DelegatedProperty> delegated, Class<?> targetType) {
+        for (DelegatedProperty property : delegated) {
+            if (!property.accessible()) {
+                throw new UnsupportedOperationException(
+                        "AOT skip: delegated property '" + property.name() + "' in " + targetType.getName()
+                                + " has no accessible getter and setter");
+            }
+        }
         boolean hasIdOnField = false;
         for (FieldInfo field : fields) {
             int flags = field.access();
@@ -112,10 +174,6 @@ public class PropertyFinder {
                         "AOT skip: private inherited field '" + field.name() + "' from "
                                 + field.declaringClass().getName() + " in " + targetType.getName());
             }
-            if (field.desc().startsWith("[")) {
-                throw new UnsupportedOperationException(
-                        "AOT skip: array-typed field '" + field.name() + "' in " + targetType.getName());
-            }
             if (field.visibleAnnotations() != null && field.visibleAnnotations().stream()
                     .anyMatch(a -> ID_ANNOTATION_DESC.equals(a.classSymbol().descriptorString()))) {
                 hasIdOnField = true;
@@ -251,8 +309,7 @@ public class PropertyFinder {
                 MethodInfo methodInfo = toMethodInfo(method);
 
                 if (propertyDiscovery == PropertyDiscovery.METHODS) {
-                    java.lang.constant.MethodTypeDesc mtd = java.lang.constant.MethodTypeDesc
-                            .ofDescriptor(method.methodType().stringValue());
+                    MethodTypeDesc mtd = MethodTypeDesc.ofDescriptor(method.methodType().stringValue());
                     MethodInfo setter = findSetterInHierarchy(model, current, propName,
                             mtd.returnType().descriptorString());
                     if (setter != null) {
@@ -295,9 +352,8 @@ public class PropertyFinder {
         // 0x0040 = ACC_BRIDGE: skip compiler-generated covariant bridge methods
         if ((flags & 0x0040) != 0)
             return false;
-        java.lang.constant.MethodTypeDesc mtd = java.lang.constant.MethodTypeDesc
-                .ofDescriptor(method.methodType().stringValue());
-        return mtd.parameterCount() == 0 && !mtd.returnType().equals(java.lang.constant.ConstantDescs.CD_void);
+        MethodTypeDesc mtd = MethodTypeDesc.ofDescriptor(method.methodType().stringValue());
+        return mtd.parameterCount() == 0 && !mtd.returnType().equals(ConstantDescs.CD_void);
     }
 
     private String getterPropertyName(MethodModel method) {
@@ -345,4 +401,13 @@ public class PropertyFinder {
                 .map(RuntimeVisibleAnnotationsAttribute::annotations)
                 .orElse(List.of());
     }
+
+    /**
+     * A Kotlin delegated property and the getter and setter the Kotlin compiler generated for it, if any
+     */
+    private record DelegatedProperty(String name, FieldInfo field, @Nullable MethodInfo getter, @Nullable MethodInfo setter) {
+        boolean accessible() {
+            return getter != null && setter != null && (setter.access() & ClassFile.ACC_PRIVATE) == 0;
+        }
+    }
 }
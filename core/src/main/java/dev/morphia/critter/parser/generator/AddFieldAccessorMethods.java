@@ -7,6 +7,7 @@ import java.util.List;
 
 import dev.morphia.critter.Critter;
 import dev.morphia.critter.parser.FieldInfo;
+import dev.morphia.critter.parser.MethodInfo;
 
 import io.github.dmlloyd.classfile.ClassFile;
 import io.github.dmlloyd.classfile.ClassModel;
@@ -16,17 +17,29 @@ import io.github.dmlloyd.classfile.TypeKind;
 
 /**
  * Generates synthetic {@code __readXxx} and {@code __writeXxx} accessor methods directly
- * into an entity class bytecode for each of its fields.
+ * into an entity class bytecode for each of its fields. Kotlin delegated properties are
+ * read and written through their getter and setter instead of their delegate field.
  */
 public class AddFieldAccessorMethods extends AccessorMethods {
     private final List<FieldInfo> fields;
+    private final List<MethodInfo> delegated;
 
     /**
      * Creates a generator that will add accessor methods for the given fields to the entity class.
      */
     public AddFieldAccessorMethods(Class<?> entity, List<FieldInfo> fields) {
+        this(entity, fields, List.of());
+    }
+
+    /**
+     * Creates a generator that will add accessor methods for the given fields and Kotlin delegated properties to the entity class.
+     *
+     * @param delegated the getters of the delegated properties
+     */
+    public AddFieldAccessorMethods(Class<?> entity, List<FieldInfo> fields, List<MethodInfo> delegated) {
         super(entity);
         this.fields = fields;
+        this.delegated = delegated;
     }
 
     @Override
@@ -70,12 +83,19 @@ public class AddFieldAccessorMethods extends AccessorMethods {
                                         cod.loadLocal(kind, 1);
                                     } else {
                                         cod.aload(1);
-                                        cod.checkcast(fieldDesc);
+                                        if (fieldDesc.isArray()) {
+                                            GenerationUtils.emitAdaptArray(cod, fieldDesc);
+                                        } else {
+                                            cod.checkcast(fieldDesc);
+                                        }
                                     }
                                     cod.putfield(entityDesc, name, fieldDesc);
                                     cod.return_();
                                 });
                     }
+                    for (MethodInfo getter : delegated) {
+                        AddMethodAccessorMethods.addAccessors(classBuilder, entity, entityDesc, getter);
+                    }
                 }));
 
         return ClassFile.of().transformClass(model, transform);
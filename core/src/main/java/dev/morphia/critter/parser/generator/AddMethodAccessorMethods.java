@@ -9,12 +9,14 @@ import dev.morphia.critter.Critter;
 import dev.morphia.critter.parser.ExtensionFunctions;
 import dev.morphia.critter.parser.MethodInfo;
 
+import io.github.dmlloyd.classfile.ClassBuilder;
 import io.github.dmlloyd.classfile.ClassFile;
 import io.github.dmlloyd.classfile.ClassModel;
 import io.github.dmlloyd.classfile.ClassTransform;
 import io.github.dmlloyd.classfile.MethodModel;
 import io.github.dmlloyd.classfile.TypeKind;
 
+import static dev.morphia.critter.parser.generator.GenerationUtils.emitAdaptArray;
 import static dev.morphia.critter.parser.generator.GenerationUtils.findSetterMethod;
 
 /**
@@ -44,64 +46,79 @@ public class AddMethodAccessorMethods extends AccessorMethods {
                                 || m.methodName().stringValue().startsWith("__write")))
                 .andThen(ClassTransform.endHandler(classBuilder -> {
                     for (MethodInfo method : methods) {
-                        String propertyName = ExtensionFunctions.getterToPropertyName(method, entity);
-                        MethodTypeDesc methodMtd = MethodTypeDesc.ofDescriptor(method.desc());
-                        ClassDesc returnDesc = methodMtd.returnType();
-                        TypeKind returnKind = TypeKind.fromDescriptor(returnDesc.descriptorString());
-                        String getterName = method.name();
-                        String setterName = "set%s".formatted(Critter.titleCase(propertyName));
-
-                        boolean hasSetter = findSetterMethod(entity, setterName, methodMtd.returnType()) != null;
-
-                        // __readXxx(): returns Object for reference types (keeps non-public types
-                        // out of the accessor's constant pool; concrete type widens inside entity)
-                        boolean isPrimitive = returnKind != TypeKind.REFERENCE;
-                        String readerName = "__read%s".formatted(Critter.titleCase(propertyName));
-                        MethodTypeDesc readerMtd = MethodTypeDesc.of(isPrimitive ? returnDesc : ConstantDescs.CD_Object);
-                        classBuilder.withMethodBody(readerName, readerMtd,
-                                ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
-                                cod -> {
-                                    cod.aload(0);
-                                    cod.invokevirtual(entityDesc, getterName, MethodTypeDesc.of(returnDesc));
-                                    cod.return_(returnKind);
-                                });
-
-                        // __writeXxx(Object): void for reference types (cast inside entity where concrete type is accessible)
-                        String writerName = "__write%s".formatted(Critter.titleCase(propertyName));
-                        MethodTypeDesc writerMtd = MethodTypeDesc.of(ClassDesc.ofDescriptor("V"),
-                                isPrimitive ? returnDesc : ConstantDescs.CD_Object);
-                        if (hasSetter) {
-                            classBuilder.withMethodBody(writerName, writerMtd,
-                                    ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
-                                    cod -> {
-                                        cod.aload(0);
-                                        if (isPrimitive) {
-                                            cod.loadLocal(returnKind, 1);
-                                        } else {
-                                            cod.aload(1);
-                                            cod.checkcast(returnDesc);
-                                        }
-                                        cod.invokevirtual(entityDesc, setterName,
-                                                MethodTypeDesc.of(ClassDesc.ofDescriptor("V"), returnDesc));
-                                        cod.return_();
-                                    });
-                        } else {
-                            classBuilder.withMethodBody(writerName, writerMtd,
-                                    ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
-                                    cod -> {
-                                        ClassDesc uoeDesc = ClassDesc.of("java.lang.UnsupportedOperationException");
-                                        cod.new_(uoeDesc);
-                                        cod.dup();
-                                        cod.ldc("Property '%s' is read-only".formatted(propertyName));
-                                        cod.invokespecial(uoeDesc, "<init>",
-                                                MethodTypeDesc.ofDescriptor("(Ljava/lang/String;)V"));
-                                        cod.athrow();
-                                    });
-                        }
+                        addAccessors(classBuilder, entity, entityDesc, method);
                     }
                 }));
 
         return ClassFile.of().transformClass(model, transform);
     }
 
+    /**
+     * Adds the {@code __readXxx} and {@code __writeXxx} methods for the property exposed by the given getter.
+     *
+     * @param classBuilder the builder of the entity class
+     * @param entity       the entity class
+     * @param entityDesc   the descriptor of the entity class
+     * @param method       the getter
+     */
+    static void addAccessors(ClassBuilder classBuilder, Class<?> entity, ClassDesc entityDesc, MethodInfo method) {
+        String propertyName = ExtensionFunctions.getterToPropertyName(method, entity);
+        MethodTypeDesc methodMtd = MethodTypeDesc.ofDescriptor(method.desc());
+        ClassDesc returnDesc = methodMtd.returnType();
+        TypeKind returnKind = TypeKind.fromDescriptor(returnDesc.descriptorString());
+        String getterName = method.name();
+        String setterName = "set%s".formatted(Critter.titleCase(propertyName));
+
+        boolean hasSetter = findSetterMethod(entity, setterName, methodMtd.returnType()) != null;
+
+        // __readXxx(): returns Object for reference types (keeps non-public types
+        // out of the accessor's constant pool; concrete type widens inside entity)
+        boolean isPrimitive = returnKind != TypeKind.REFERENCE;
+        String readerName = "__read%s".formatted(Critter.titleCase(propertyName));
+        MethodTypeDesc readerMtd = MethodTypeDesc.of(isPrimitive ? returnDesc : ConstantDescs.CD_Object);
+        classBuilder.withMethodBody(readerName, readerMtd,
+                ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
+                cod -> {
+                    cod.aload(0);
+                    cod.invokevirtual(entityDesc, getterName, MethodTypeDesc.of(returnDesc));
+                    cod.return_(returnKind);
+                });
+
+        // __writeXxx(Object): void for reference types (cast inside entity where concrete type is accessible)
+        String writerName = "__write%s".formatted(Critter.titleCase(propertyName));
+        MethodTypeDesc writerMtd = MethodTypeDesc.of(ClassDesc.ofDescriptor("V"),
+                isPrimitive ? returnDesc : ConstantDescs.CD_Object);
+        if (hasSetter) {
+            classBuilder.withMethodBody(writerName, writerMtd,
+                    ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
+                    cod -> {
+                        cod.aload(0);
+                        if (isPrimitive) {
+                            cod.loadLocal(returnKind, 1);
+                        } else {
+                            cod.aload(1);
+                            if (returnDesc.isArray()) {
+                                emitAdaptArray(cod, returnDesc);
+                            } else {
+                                cod.checkcast(returnDesc);
+                            }
+                        }
+                        cod.invokevirtual(entityDesc, setterName,
+                                MethodTypeDesc.of(ClassDesc.ofDescriptor("V"), returnDesc));
+                        cod.return_();
+                    });
+        } else {
+            classBuilder.withMethodBody(writerName, writerMtd,
+                    ClassFile.ACC_PUBLIC | ClassFile.ACC_SYNTHETIC,
+                    cod -> {
+                        ClassDesc uoeDesc = ClassDesc.of("java.lang.UnsupportedOperationException");
+                        cod.new_(uoeDesc);
+                        cod.dup();
+                        cod.ldc("Property '%s' is read-only".formatted(propertyName));
+                        cod.invokespecial(uoeDesc, "<init>",
+                                MethodTypeDesc.ofDescriptor("(Ljava/lang/String;)V"));
+                        cod.athrow();
+                    });
+        }
+    }
 }
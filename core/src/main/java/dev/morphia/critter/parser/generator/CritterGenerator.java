@@ -10,8 +10,11 @@ import dev.morphia.critter.parser.FieldInfo;
 import dev.morphia.critter.parser.MethodInfo;
 import dev.morphia.critter.parser.PropertyFinder;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.critter.ArrayAdapter;
 
 import org.bson.codecs.pojo.PropertyAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.github.dmlloyd.classfile.ClassModel;
 
@@ -20,6 +23,8 @@ import io.github.dmlloyd.classfile.ClassModel;
  * including field/method accessor injection and property/entity model generation.
  */
 public class CritterGenerator {
+    private static final Logger LOG = LoggerFactory.getLogger(CritterGenerator.class);
+
     private final Mapper mapper;
 
     /**
@@ -79,6 +84,19 @@ public class CritterGenerator {
         return new AddFieldAccessorMethods(entityType, fields).emit();
     }
 
+    /**
+     * Generates bytecode augmenting the entity with synthetic {@code __readXxx}/{@code __writeXxx} methods for its fields and for its
+     * Kotlin delegated properties. The latter call the property's getter and setter so no {@code KProperty} reflection is needed.
+     *
+     * @param entityType the entity class to augment
+     * @param fields     the fields for which accessor methods should be generated
+     * @param delegated  the getters of the delegated properties for which accessor methods should be generated
+     * @return the augmented class bytecode
+     */
+    public byte[] fieldAccessors(Class<?> entityType, List<FieldInfo> fields, List<MethodInfo> delegated) {
+        return new AddFieldAccessorMethods(entityType, fields, delegated).emit();
+    }
+
     /**
      * Generates bytecode augmenting the entity with synthetic {@code __readXxx}/{@code __writeXxx} methods for its getter methods.
      *
@@ -146,13 +164,26 @@ public class CritterGenerator {
             Class<?> accessorClass = privateLookup
                     .defineHiddenClass(bytes, true, Lookup.ClassOption.NESTMATE)
                     .lookupClass();
-            @SuppressWarnings("unchecked")
             PropertyAccessor<?> instance = (PropertyAccessor<?>) accessorClass.getDeclaredConstructor().newInstance();
+            Class<?> arrayType = gen.arrayType();
+            if (arrayType != null) {
+                instance = ArrayAdapter.converting(instance, arrayType, mapper.getConversions());
+            }
             NestmateAccessorRegistry.register(gen.registryKey, instance);
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // only this property falls back to reflection; the rest of the entity keeps its generated accessors
+            LOG.debug("Could not generate an accessor for {}; using reflection for it instead: {}", gen.registryKey, e.getMessage(), e);
+            registerReflective(gen, e);
+        }
+    }
+
+    private void registerReflective(NestmateAccessorGenerator gen, Throwable cause) {
+        try {
+            NestmateAccessorRegistry.register(gen.registryKey, gen.reflectiveAccessor(mapper.getConversions()));
+        } catch (ReflectiveOperationException e) {
+            RuntimeException failure = new RuntimeException(e);
+            failure.addSuppressed(cause);
+            throw failure;
         }
     }
 
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import dev.morphia.mapping.codec.pojo.TypeData;
+import dev.morphia.mapping.codec.pojo.critter.ArrayAdapter;
 
 import io.github.dmlloyd.classfile.AnnotationElement;
 import io.github.dmlloyd.classfile.AnnotationValue;
@@ -335,6 +336,18 @@ public class GenerationUtils {
         }
     }
 
+    /**
+     * Emits bytecode that adapts the value on top of the stack to the given array type via {@link ArrayAdapter#adapt} and casts it.
+     * Codecs may decode array-typed properties as {@code Object[]} which would otherwise fail the cast. Only emit this in classes which
+     * can access the array's component type, e.g. the entity itself or one of its nestmates.
+     */
+    public static void emitAdaptArray(CodeBuilder cod, ClassDesc arrayDesc) {
+        cod.loadConstant(arrayDesc);
+        cod.invokestatic(ClassDesc.of(ArrayAdapter.class.getName()), "adapt",
+                MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_Object, ConstantDescs.CD_Class));
+        cod.checkcast(arrayDesc);
+    }
+
     private static String primitiveWrapperName(Class<?> primitive) {
         if (primitive == void.class) {
             return "java.lang.Void";
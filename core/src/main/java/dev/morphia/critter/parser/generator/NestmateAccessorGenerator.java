@@ -3,18 +3,29 @@ package dev.morphia.critter.parser.generator;
 import java.lang.constant.ClassDesc;
 import java.lang.constant.ConstantDescs;
 import java.lang.constant.MethodTypeDesc;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
+import com.mongodb.lang.Nullable;
+
 import dev.morphia.critter.Critter;
 import dev.morphia.critter.parser.ExtensionFunctions;
 import dev.morphia.critter.parser.FieldInfo;
 import dev.morphia.critter.parser.MethodInfo;
+import dev.morphia.mapping.codec.ArrayFieldAccessor;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.MethodAccessor;
+import dev.morphia.mapping.codec.pojo.TypeData;
+
+import org.bson.codecs.pojo.PropertyAccessor;
 
 import io.github.dmlloyd.classfile.ClassFile;
 import io.github.dmlloyd.classfile.ClassSignature;
 import io.github.dmlloyd.classfile.attribute.SignatureAttribute;
 
 import static dev.morphia.critter.parser.generator.GenerationUtils.PRIMITIVE_TO_WRAPPER;
+import static dev.morphia.critter.parser.generator.GenerationUtils.emitAdaptArray;
 import static dev.morphia.critter.parser.generator.GenerationUtils.findSetterMethod;
 import static dev.morphia.critter.parser.generator.GenerationUtils.primitiveClassDesc;
 import static dev.morphia.critter.parser.generator.GenerationUtils.primitiveUnboxMethod;
@@ -27,9 +38,8 @@ import static dev.morphia.critter.parser.generator.GenerationUtils.typeClassName
  * class so the JVM grants it private-member access.
  *
  * <p>
- * Array-typed properties are not supported: the BSON codec provides {@code Object[]} at runtime,
- * which is incompatible with {@code putfield} to a typed array field. Callers should throw
- * to trigger {@link dev.morphia.mapping.CritterMapper} fallback to reflection for such entities.
+ * Values for array-typed properties are passed through {@link GenerationUtils#emitAdaptArray} before they are stored since the
+ * BSON codecs may provide an {@code Object[]} rather than the property's array type.
  */
 public class NestmateAccessorGenerator {
     private final Class<?> entity;
@@ -105,16 +115,8 @@ public class NestmateAccessorGenerator {
 
     /**
      * Generates the accessor bytecode.
-     *
-     * @throws IllegalArgumentException if the property type is an array (BSON codec provides {@code Object[]}
-     *                                  which is incompatible with typed array putfield at runtime)
      */
     public byte[] generate() {
-        if (propertyType.startsWith("[")) {
-            throw new IllegalArgumentException(
-                    "Array-typed properties cannot use nestmate accessors (codec provides Object[]): " + propertyName);
-        }
-
         ClassDesc thisDesc = ClassDesc.of(bytecodeName);
         ClassDesc entityDesc = ClassDesc.of(entity.getName());
         // For field access, use the declaring class (may differ from entity when field is in a superclass)
@@ -198,6 +200,9 @@ public class NestmateAccessorGenerator {
                                 tryBody.aload(fieldSlot);
                                 tryBody.aload(1);
                                 tryBody.aload(2);
+                                if (propertyDesc.isArray()) {
+                                    emitAdaptArray(tryBody, propertyDesc);
+                                }
                                 tryBody.invokevirtual(fieldDesc2, "set",
                                         MethodTypeDesc.ofDescriptor("(Ljava/lang/Object;Ljava/lang/Object;)V"));
                                 tryBody.return_();
@@ -220,6 +225,9 @@ public class NestmateAccessorGenerator {
                             cod.aload(2);
                             cod.checkcast(wrapperDesc);
                             cod.invokevirtual(wrapperDesc, primitiveUnboxMethod(propertyType), MethodTypeDesc.of(propertyDesc));
+                        } else if (propertyDesc.isArray()) {
+                            cod.aload(2);
+                            emitAdaptArray(cod, propertyDesc);
                         } else {
                             cod.aload(2);
                             cod.checkcast(propertyDesc);
@@ -242,6 +250,50 @@ public class NestmateAccessorGenerator {
         });
     }
 
+    /**
+     * @return the array type of the property or null if the property is not an array
+     * @throws ClassNotFoundException if the array type can not be loaded
+     */
+    @Nullable
+    Class<?> arrayType() throws ClassNotFoundException {
+        return propertyType.startsWith("[") ? Class.forName(propertyType, false, declaringClass.getClassLoader()) : null;
+    }
+
+    /**
+     * Creates a reflective accessor for the property. Used in place of the generated accessor when that one can not be defined so that
+     * only this property, rather than the whole entity, falls back to reflection.
+     *
+     * @param conversions the conversions to adapt array elements with
+     * @return the accessor
+     * @throws ReflectiveOperationException if the field or methods can not be found
+     */
+    PropertyAccessor<?> reflectiveAccessor(Conversions conversions) throws ReflectiveOperationException {
+        if (isFieldBased) {
+            Field field = declaringClass.getDeclaredField(fieldOrGetterName);
+            return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
+                    ? new ArrayFieldAccessor(TypeData.get(field), field, conversions)
+                    : new FieldAccessor(field);
+        }
+        Method getter = findMethod(entity, fieldOrGetterName);
+        getter.setAccessible(true);
+        if (setterMethod != null) {
+            setterMethod.setAccessible(true);
+        }
+        return new MethodAccessor(getter, setterMethod);
+    }
+
+    private static Method findMethod(Class<?> type, String name) throws NoSuchMethodException {
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            try {
+                return current.getDeclaredMethod(name);
+            } catch (NoSuchMethodException ignored) {
+                current = current.getSuperclass();
+            }
+        }
+        throw new NoSuchMethodException("%s.%s()".formatted(type.getName(), name));
+    }
+
     private ClassDesc propertyClassDesc() {
         if (isPrimitive()) {
             return primitiveClassDesc(propertyType);
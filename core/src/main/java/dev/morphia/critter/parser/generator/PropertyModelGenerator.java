@@ -124,6 +124,13 @@ public class PropertyModelGenerator extends BaseGenerator {
                 this.annotationMap.putIfAbsent(ann.annotationType().getName(), ann);
             }
         }
+        // Kotlin delegated properties carry their annotations on the delegate field
+        Field delegate = findField(annotationSource, this.propertyName + "$delegate");
+        if (delegate != null) {
+            for (Annotation ann : delegate.getAnnotations()) {
+                this.annotationMap.putIfAbsent(ann.annotationType().getName(), ann);
+            }
+        }
         this.typeData = TypeData.get(resolveGenericType(this.genericType, this.propertyName, annotationSource));
         this.getterName = method.name();
     }
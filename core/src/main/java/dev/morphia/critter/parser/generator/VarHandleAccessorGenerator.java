@@ -14,9 +14,11 @@ import dev.morphia.critter.CritterClassLoader;
 import dev.morphia.critter.parser.ExtensionFunctions;
 import dev.morphia.critter.parser.FieldInfo;
 import dev.morphia.critter.parser.MethodInfo;
+import dev.morphia.mapping.codec.pojo.critter.ArrayAdapter;
 
 import io.github.dmlloyd.classfile.ClassFile;
 import io.github.dmlloyd.classfile.ClassSignature;
+import io.github.dmlloyd.classfile.CodeBuilder;
 import io.github.dmlloyd.classfile.TypeKind;
 import io.github.dmlloyd.classfile.attribute.SignatureAttribute;
 
@@ -107,14 +109,6 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
         ClassDesc thisDesc = ClassDesc.of(generatedType);
         ClassDesc accessorDesc = ClassDesc.of("org.bson.codecs.pojo.PropertyAccessor");
         ClassDesc propertyDesc = propertyClassDesc();
-        // Array-typed properties are not supported by VarHandle accessors because the BSON codec
-        // provides Object[] values at runtime which VarHandle rejects with a ClassCastException.
-        // Throwing here causes CritterMapper.tryRuntimeGeneration() to fall back to reflection
-        // for the entity, which handles array types correctly.
-        if (propertyType.startsWith("[")) {
-            throw new IllegalArgumentException(
-                    "Array-typed properties cannot use VarHandle accessors (codec provides Object[]): " + propertyName);
-        }
         ClassDesc wrapperDesc = ClassDesc.of(getWrapperType());
 
         ClassDesc varHandleDesc = ClassDesc.of(VarHandle.class.getName());
@@ -309,6 +303,11 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
                                 tryBody.aload(fieldSlot);
                                 tryBody.aload(1);
                                 tryBody.aload(2);
+                                if (propertyDesc.isArray()) {
+                                    tryBody.aload(fieldSlot);
+                                    tryBody.invokevirtual(fieldDesc2, "getType", MethodTypeDesc.of(ConstantDescs.CD_Class));
+                                    emitAdaptArray(tryBody);
+                                }
                                 tryBody.invokevirtual(fieldDesc2, "set",
                                         MethodTypeDesc.ofDescriptor("(Ljava/lang/Object;Ljava/lang/Object;)V"));
                                 tryBody.return_();
@@ -337,6 +336,13 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
                                 cod.invokevirtual(varHandleDesc, "set",
                                         MethodTypeDesc.ofDescriptor("(Ljava/lang/Object;" + propertyDesc.descriptorString() + ")V"));
                             } else {
+                                if (propertyDesc.isArray()) {
+                                    // adapt to the handle's own array type so the component type need not be resolvable here
+                                    cod.aload(0);
+                                    cod.getfield(thisDesc, "varHandle", varHandleDesc);
+                                    cod.invokevirtual(varHandleDesc, "varType", MethodTypeDesc.of(ConstantDescs.CD_Class));
+                                    emitAdaptArray(cod);
+                                }
                                 // skip checkcast: VarHandle.set(Object,Object) accepts Object;
                                 // checkcast to a non-public inner class would cause IllegalAccessError
                                 cod.invokevirtual(varHandleDesc, "set",
@@ -354,6 +360,15 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
                                 cod.invokevirtual(methodHandleDesc, "invoke",
                                         MethodTypeDesc.ofDescriptor("(Ljava/lang/Object;" + propertyDesc.descriptorString() + ")V"));
                             } else {
+                                if (propertyDesc.isArray()) {
+                                    cod.aload(0);
+                                    cod.getfield(thisDesc, "setterHandle", methodHandleDesc);
+                                    cod.invokevirtual(methodHandleDesc, "type", MethodTypeDesc.of(methodTypeDesc2));
+                                    cod.iconst_1();
+                                    cod.invokevirtual(methodTypeDesc2, "parameterType",
+                                            MethodTypeDesc.of(ConstantDescs.CD_Class, ConstantDescs.CD_int));
+                                    emitAdaptArray(cod);
+                                }
                                 // skip checkcast: MethodHandle.invoke(Object,Object) accepts Object;
                                 // checkcast to a non-public inner class would cause IllegalAccessError
                                 cod.invokevirtual(methodHandleDesc, "invoke",
@@ -368,7 +383,7 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
         return this;
     }
 
-    private void emitLoadClass(io.github.dmlloyd.classfile.CodeBuilder cod, String typeName, ClassDesc desc,
+    private void emitLoadClass(CodeBuilder cod, String typeName, ClassDesc desc,
             int tcclSlot) {
         if (isPrimitive()) {
             cod.loadConstant(desc);
@@ -383,6 +398,14 @@ public class VarHandleAccessorGenerator extends BaseGenerator {
         }
     }
 
+    /**
+     * Emits a call adapting the value below the array type on top of the stack, leaving the adapted value on the stack.
+     */
+    private static void emitAdaptArray(CodeBuilder cod) {
+        cod.invokestatic(ClassDesc.of(ArrayAdapter.class.getName()), "adapt",
+                MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_Object, ConstantDescs.CD_Class));
+    }
+
     private ClassDesc propertyClassDesc() {
         if (isPrimitive()) {
             return primitiveClassDesc(propertyType);
@@ -0,0 +1,188 @@
+package dev.morphia.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.codec.pojo.DecodeScope;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Runs independent blocking operations, e.g. one query per referenced collection, concurrently and joins their results. At most
+ * {@link MorphiaConfig#parallelism()} operations are in flight at once for a given call. With a parallelism of 1, the default, every
+ * operation runs in turn on the calling thread.
+ * <p>
+ * Operations run on {@link MorphiaConfig#executor()} if one is configured and on the {@link Workers#shared() shared workers} otherwise.
+ * Each operation sees the caller's {@link DecodeScope} and, if the caller is batching references, batches the references it decodes in a
+ * {@link ReferenceBatch} of its own. An operation which fans out again runs its operations in turn on its own thread so that a bounded
+ * executor can not be exhausted by tasks waiting on each other.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class FanOut {
+    private static final FanOut SEQUENTIAL = new FanOut(null, 1);
+    private static final ThreadLocal<Boolean> WORKER = new ThreadLocal<>();
+
+    @Nullable
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    /**
+     * @param config the configuration to read the executor and parallelism from
+     */
+    public FanOut(MorphiaConfig config) {
+        this(config.parallelism() > 1 ? config.executor().orElseGet(Workers::shared) : null, config.parallelism());
+    }
+
+    private FanOut(@Nullable ExecutorService executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * @return an instance which always runs operations in turn on the calling thread
+     */
+    public static FanOut sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Applies the function to every entry and waits for all of them to complete. If any fail, the first failure in iteration order is
+     * rethrown once the others have finished.
+     *
+     * @param inputs   the inputs
+     * @param function the function to apply
+     * @param <K>      the key type
+     * @param <V>      the input value type
+     * @param <R>      the result type
+     * @return the results keyed and ordered as the inputs
+     */
+    public <K, V, R> Map<K, R> mapValues(Map<K, V> inputs, BiFunction<K, V, R> function) {
+        List<Entry<K, V>> entries = new ArrayList<>(inputs.entrySet());
+        List<R> results = apply(entries, entry -> function.apply(entry.getKey(), entry.getValue()));
+        Map<K, R> mapped = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            mapped.put(entries.get(i).getKey(), results.get(i));
+        }
+        return mapped;
+    }
+
+    /**
+     * Runs the action for every input and waits for all of them to complete. If any fail, the first failure in iteration order is
+     * rethrown once the others have finished.
+     *
+     * @param inputs the inputs
+     * @param action the action to run
+     * @param <T>    the input type
+     */
+    public <T> void forEach(Collection<T> inputs, Consumer<T> action) {
+        apply(inputs, input -> {
+            action.accept(input);
+            return null;
+        });
+    }
+
+    private <T, R> List<R> apply(Collection<T> inputs, Function<T, R> function) {
+        List<R> results = new ArrayList<>(inputs.size());
+        if (executor == null || inputs.size() < 2 || WORKER.get() != null) {
+            for (T input : inputs) {
+                results.add(function.apply(input));
+            }
+            return results;
+        }
+
+        Function<T, R> task = propagate(function);
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        try {
+            for (T input : inputs) {
+                permits.acquire();
+                try {
+                    futures.add(CompletableFuture.supplyAsync(() -> {
+                        WORKER.set(TRUE);
+                        try {
+                            return task.apply(input);
+                        } finally {
+                            WORKER.remove();
+                            permits.release();
+                        }
+                    }, executor));
+                } catch (RuntimeException e) {
+                    // e.g. a RejectedExecutionException from a saturated or shut down executor
+                    permits.release();
+                    awaitQuietly(futures);
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            awaitQuietly(futures);
+            throw new MongoInterruptedException(e.getMessage(), e);
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the operations already submitted so none is left running once the call has failed. Their own failures are dropped in
+     * favor of the one being rethrown.
+     */
+    private static void awaitQuietly(List<? extends CompletableFuture<?>> futures) {
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // the caller's failure is the one reported
+            }
+        }
+    }
+
+    private static <T, R> Function<T, R> propagate(Function<T, R> function) {
+        DecodeScope scope = DecodeScope.current();
+        ReferenceBatch batch = ReferenceBatch.current();
+        // a batch is not safe to share between threads so each task gets its own for the same datastore
+        return input -> {
+            Supplier<R> action = () -> function.apply(input);
+            Supplier<R> scoped = scope != null ? () -> scope.within(action) : action;
+            return batch != null ? new ReferenceBatch(batch.getDatastore()).within(scoped) : scoped.get();
+        };
+    }
+}
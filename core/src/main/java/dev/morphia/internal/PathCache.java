@@ -0,0 +1,91 @@
+package dev.morphia.internal;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+/**
+ * Caches the compiled {@link PathTarget} resolutions for an entity model so that repeated queries and updates against the same paths
+ * skip parsing and resolving them again. A resolution which had to search the subtypes of a model is recorded against that model's cache
+ * so that registering a new subtype only clears the caches it could affect.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class PathCache {
+    /**
+     * The most paths cached per model. Paths built from data (e.g. map keys) would otherwise grow the cache without bound.
+     */
+    static final int MAX_SIZE = 10_000;
+
+    private final Map<String, PathTarget.Resolution> validated = new ConcurrentHashMap<>();
+    private final Map<String, PathTarget.Resolution> unvalidated = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Set<PathCache> dependents = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which had to resolve the path
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return validated.size() + unvalidated.size();
+    }
+
+    /**
+     * Discards every cached resolution
+     */
+    public void clear() {
+        validated.clear();
+        unvalidated.clear();
+    }
+
+    /**
+     * Discards the caches holding resolutions which searched this model's subtypes. Called when a new subtype of the model is
+     * registered.
+     */
+    public void invalidateDependents() {
+        for (PathCache dependent : dependents) {
+            dependents.remove(dependent);
+            dependent.clear();
+        }
+    }
+
+    PathTarget.Resolution resolve(String path, boolean validateNames, Function<String, PathTarget.Resolution> compiler) {
+        Map<String, PathTarget.Resolution> cache = validateNames ? validated : unvalidated;
+        PathTarget.Resolution resolution = cache.get(path);
+        if (resolution != null) {
+            hits.increment();
+            return resolution;
+        }
+        misses.increment();
+        resolution = compiler.apply(path);
+        if (cache.size() < MAX_SIZE) {
+            for (EntityModel model : resolution.searched()) {
+                model.getPathCache().dependents.add(this);
+            }
+            cache.putIfAbsent(path, resolution);
+        }
+        return resolution;
+    }
+}
@@ -16,9 +16,11 @@
 
 package dev.morphia.internal;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.StringJoiner;
+import java.util.Set;
 
 import com.mongodb.lang.Nullable;
 
@@ -40,14 +42,11 @@ import static java.util.Arrays.asList;
  */
 @MorphiaInternal
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
     private final boolean validateNames;
-    private int position;
     private final Mapper mapper;
     private final EntityModel root;
-    private EntityModel context;
-    private PropertyModel target;
-    private boolean resolved;
+    private Resolution resolution;
 
     /**
      * Creates a resolution context for the given root and path.
@@ -70,11 +69,10 @@ public class PathTarget {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
-        resolved = path.startsWith("$");
     }
 
     /**
@@ -120,12 +118,7 @@ public class PathTarget {
      * @return the translated path
      */
     public String translatedPath() {
-        if (!resolved) {
-            resolve();
-        }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        return resolution().get().translated;
     }
 
     /**
@@ -135,86 +128,185 @@ public class PathTarget {
      */
     @Nullable
     public PropertyModel target() {
-        if (!resolved) {
-            resolve();
-        }
-        return target;
+        return resolution().get().target;
     }
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        Resolution resolved = resolution();
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(),
+                asList(split(resolved.translated)), resolved.target);
     }
 
-    private boolean hasNext() {
-        return position < segments.size();
+    private Resolution resolution() {
+        if (resolution == null) {
+            if (path.startsWith("$")) {
+                resolution = new Resolution(path, null, null, Set.of());
+            } else if (root != null) {
+                resolution = root.getPathCache().resolve(path, validateNames, this::compile);
+            } else {
+                resolution = compile(path);
+            }
+        }
+        return resolution;
     }
 
-    private void failValidation(String pathElement) {
-        resolved = true;
-        throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName(), pathElement));
+    private Resolution compile(String path) {
+        return new Compiler(mapper, root, split(path), validateNames).compile();
     }
 
-    private void resolve() {
-        context = this.root;
-        position = 0;
-        PropertyModel property = null;
-        while (!resolved && hasNext()) {
-            String segment = next();
+    /**
+     * Splits on '.' without going through a regex. Trailing empty segments are dropped to match {@link String#split(String)}.
+     */
+    private static String[] split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int dot;
+        while ((dot = path.indexOf('.', start)) != -1) {
+            segments.add(path.substring(start, dot));
+            start = dot + 1;
+        }
+        segments.add(path.substring(start));
+        int size = segments.size();
+        while (size > 0 && segments.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return segments.subList(0, size).toArray(new String[0]);
+    }
 
-            // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
-                if (!hasNext()) {
-                    break;
-                }
-                segment = next();
+    private static boolean isArrayOperator(String segment) {
+        if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]"))) {
+            return true;
+        }
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
             }
-            property = resolveProperty(segment);
+        }
+        return true;
+    }
 
-            if (property != null) {
-                if (hasNext() && property.isReference()) {
-                    failValidation(segment);
-                }
-                translate(property.getMappedName());
-                if (property.isMap()) {
-                    resolved = true;
-                }
-            } else {
-                if (validateNames) {
-                    failValidation(segment);
-                }
+    private static String join(String[] segments) {
+        return String.join(".", segments);
+    }
+
+    /**
+     * The immutable outcome of resolving a path against a root model.
+     */
+    static final class Resolution {
+        private final String translated;
+        @Nullable
+        private final PropertyModel target;
+        @Nullable
+        private final String failure;
+        private final Set<EntityModel> searched;
+
+        private Resolution(String translated, @Nullable PropertyModel target, @Nullable String failure, Set<EntityModel> searched) {
+            this.translated = translated;
+            this.target = target;
+            this.failure = failure;
+            this.searched = searched;
+        }
+
+        /**
+         * @return the models whose subtypes were searched to resolve the path. A new subtype of any of these could change the outcome.
+         */
+        Set<EntityModel> searched() {
+            return searched;
+        }
+
+        private Resolution get() {
+            if (failure != null) {
+                throw new ValidationException(failure);
             }
+            return this;
         }
-        target = property;
-        resolved = true;
     }
 
-    private void translate(String nameToStore) {
-        segments.set(position - 1, nameToStore);
-    }
+    private static final class Compiler {
+        private final Mapper mapper;
+        private final EntityModel root;
+        private final String[] segments;
+        private final boolean validateNames;
+        private final Set<EntityModel> searched = new LinkedHashSet<>();
+        private int position;
+        private EntityModel context;
 
-    @Nullable
-    private PropertyModel resolveProperty(String segment) {
-        if (context != null) {
-            PropertyModel model = context.getProperty(segment);
-            if (model == null) {
-                Iterator<EntityModel> subTypes = context.getSubtypes().iterator();
-                while (model == null && subTypes.hasNext()) {
-                    context = subTypes.next();
-                    model = resolveProperty(segment);
+        private Compiler(Mapper mapper, @Nullable EntityModel root, String[] segments, boolean validateNames) {
+            this.mapper = mapper;
+            this.root = root;
+            this.segments = segments;
+            this.validateNames = validateNames;
+        }
+
+        private Resolution compile() {
+            context = root;
+            PropertyModel property = null;
+            while (hasNext()) {
+                String segment = next();
+
+                // array operator
+                if (isArrayOperator(segment)) {
+                    if (!hasNext()) {
+                        break;
+                    }
+                    segment = next();
                 }
-            }
+                property = resolveProperty(segment);
 
-            if (model != null) {
-                context = mapper.tryGetEntityModel(model.getNormalizedType()).orElse(null);
+                if (property != null) {
+                    if (hasNext() && property.isReference()) {
+                        return failValidation(segment);
+                    }
+                    segments[position - 1] = property.getMappedName();
+                    if (property.isMap()) {
+                        break;
+                    }
+                } else if (validateNames) {
+                    return failValidation(segment);
+                }
             }
-            return model;
-        } else {
-            return null;
+            return new Resolution(join(segments), property, null, searched);
         }
-    }
 
-    String next() {
-        return segments.get(position++);
+        private Resolution failValidation(String pathElement) {
+            String translated = join(segments);
+            return new Resolution(translated, null, Sofia.invalidPathTarget(translated, root.getType().getName(), pathElement),
+                    searched);
+        }
+
+        private boolean hasNext() {
+            return position < segments.length;
+        }
+
+        private String next() {
+            return segments[position++];
+        }
+
+        @Nullable
+        private PropertyModel resolveProperty(String segment) {
+            if (context != null) {
+                PropertyModel model = context.getProperty(segment);
+                if (model == null) {
+                    searched.add(context);
+                    Iterator<EntityModel> subTypes = context.getSubtypes().iterator();
+                    while (model == null && subTypes.hasNext()) {
+                        context = subTypes.next();
+                        model = resolveProperty(segment);
+                    }
+                }
+
+                if (model != null) {
+                    context = mapper.tryGetEntityModel(model.getNormalizedType()).orElse(null);
+                }
+                return model;
+            } else {
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,49 @@
+package dev.morphia.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Holds the executor Morphia runs its own background work on when no other has been configured, e.g. concurrent reference fetches and
+ * cursor read-ahead. On JDK 21 and later this is a virtual thread per task executor. On earlier JDKs it is a shared pool of daemon threads.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class Workers {
+    private static final ExecutorService INSTANCE = create();
+
+    private Workers() {
+    }
+
+    /**
+     * @return the shared executor
+     */
+    public static ExecutorService shared() {
+        return INSTANCE;
+    }
+
+    private static ExecutorService create() {
+        try {
+            // JDK 21+. looked up reflectively as Morphia still targets 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(daemonThreads());
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "morphia-worker-%d".formatted(count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
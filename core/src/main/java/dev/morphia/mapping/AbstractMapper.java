@@ -54,6 +54,11 @@ public abstract class AbstractMapper implements Mapper {
     // the parent does show up — without rescanning every already-registered model on every new
     // registration (see register()/linkHierarchy()).
     private final Map<String, List<EntityModel>> pendingSubtypesByParentName = new ConcurrentHashMap<>();
+    // Per-class lookup state so the hot model lookups skip the proxy check, the name keyed map, and, for types which can never be
+    // mapped (e.g. Document), the annotation walk. Each entry also serves as the lock its type is mapped under. This is held per mapper
+    // rather than in a ClassValue: the entries reach back to this mapper through their models so a ClassValue would pin every mapper
+    // (and each session's copy) for as long as the entity classes stay loaded.
+    private final Map<Class<?>, TypeEntry> types = new ConcurrentHashMap<>();
     protected final List<EntityListener<?>> listeners = new ArrayList<>();
     protected final MorphiaConfig config;
     protected final DiscriminatorLookup discriminatorLookup;
@@ -205,20 +210,24 @@ public abstract class AbstractMapper implements Mapper {
     @Override
     @MorphiaInternal
     public Optional<EntityModel> tryGetEntityModel(Class type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        if (actual == null && MorphiaProxy.class.equals(type)) {
+        TypeEntry entry = typeEntry(type);
+        Optional<EntityModel> model = entry.model;
+        if (model != null) {
+            return model;
+        }
+        if (entry.actual == null) {
             return Optional.empty();
         }
-        EntityModel model = mappedEntities.get(actual.getName());
-
-        if (model == null) {
-            if (!isMappable(actual)) {
+        EntityModel mapped = mappedEntities.get(entry.actual.getName());
+        if (mapped == null) {
+            if (!entry.mappable) {
                 return Optional.empty();
             }
-            model = mapEntity(actual);
+            mapped = mapEntity(entry.actual);
         }
-
-        return Optional.of(model);
+        model = Optional.ofNullable(mapped);
+        entry.model = model;
+        return model;
     }
 
     @Override
@@ -260,15 +269,8 @@ public abstract class AbstractMapper implements Mapper {
     @Override
     @Nullable
     public WriteConcern getWriteConcern(Class clazz) {
-        WriteConcern wc = null;
         EntityModel entityModel = getEntityModel(clazz);
-        if (entityModel != null) {
-            final Entity entityAnn = entityModel.getEntityAnnotation();
-            if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
-            }
-        }
-        return wc;
+        return entityModel != null ? entityModel.writeConcern() : null;
     }
 
     @Override
@@ -283,8 +285,7 @@ public abstract class AbstractMapper implements Mapper {
         if (type == null) {
             return false;
         }
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS);
+        return typeEntry(type).mappable;
     }
 
     @Override
@@ -359,11 +360,12 @@ public abstract class AbstractMapper implements Mapper {
 
     @MorphiaInternal
     protected EntityModel register(EntityModel model, boolean validate) {
-        var existing = mappedEntities.get(model.getType().getName());
+        model.resolveWriteConcern();
+        var existing = mappedEntities.putIfAbsent(model.getType().getName(), model);
         if (existing != null) {
             return existing;
         }
-        mappedEntities.put(model.getType().getName(), model);
+        typeEntry(model.getType()).model = Optional.of(model);
         if (validate && !model.isInterface()) {
             new MappingValidator()
                     .validate(this, model);
@@ -374,9 +376,27 @@ public abstract class AbstractMapper implements Mapper {
                 .add(model);
 
         linkHierarchy(model);
+        invalidatePaths(model.getType(), new HashSet<>());
         return model;
     }
 
+    /**
+     * Clears the cached paths which searched the subtypes of one of the type's parents since the new subtype might now match them.
+     */
+    private void invalidatePaths(@Nullable Class<?> type, Set<Class<?>> visited) {
+        if (type == null || !visited.add(type)) {
+            return;
+        }
+        EntityModel mapped = mappedEntities.get(type.getName());
+        if (mapped != null) {
+            mapped.getPathCache().invalidateDependents();
+        }
+        invalidatePaths(type.getSuperclass(), visited);
+        for (Class<?> iface : type.getInterfaces()) {
+            invalidatePaths(iface, visited);
+        }
+    }
+
     /**
      * Links a newly registered model to its already-registered direct superclass/interface(s),
      * and vice versa: any already-registered model that was waiting on this one as its parent.
@@ -385,7 +405,13 @@ public abstract class AbstractMapper implements Mapper {
      * cost overall) with direct, name-keyed lookups in both directions.
      */
     private void linkHierarchy(EntityModel model) {
-        Class<?> type = model.getType();
+        // types map in parallel so the pending list must not change between checking for a parent and parking the model on it
+        synchronized (pendingSubtypesByParentName) {
+            linkHierarchy(model, model.getType());
+        }
+    }
+
+    private void linkHierarchy(EntityModel model, Class<?> type) {
 
         List<String> parentNames = new ArrayList<>();
         Class<?> superclass = type.getSuperclass();
@@ -412,6 +438,31 @@ public abstract class AbstractMapper implements Mapper {
         }
     }
 
+    /**
+     * Gets the lock a type is mapped under. Mapping a type only maps its parents so holding these locks while mapping can not deadlock
+     * and unrelated types may be mapped in parallel.
+     *
+     * @param type the type being mapped
+     * @return the lock
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    protected Object mappingLock(Class<?> type) {
+        return typeEntry(type);
+    }
+
+    private TypeEntry typeEntry(Class<?> type) {
+        TypeEntry entry = types.get(type);
+        if (entry == null) {
+            entry = types.computeIfAbsent(type, key -> {
+                Class<?> actual = MorphiaProxy.class.isAssignableFrom(key) ? key.getSuperclass() : key;
+                return new TypeEntry(actual, actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS));
+            });
+        }
+        return entry;
+    }
+
     protected List<Class> getClasses(ClassLoader loader, String packageName)
             throws ClassNotFoundException {
         final Set<Class> classes = new HashSet<>();
@@ -452,4 +503,17 @@ public abstract class AbstractMapper implements Mapper {
                         .map(i -> hasAnnotation(i, annotations))
                         .reduce(false, (l, r) -> l || r);
     }
+
+    private static final class TypeEntry {
+        @Nullable
+        private final Class<?> actual;
+        private final boolean mappable;
+        @Nullable
+        private volatile Optional<EntityModel> model;
+
+        private TypeEntry(@Nullable Class<?> actual, boolean mappable) {
+            this.actual = actual;
+            this.mappable = mappable;
+        }
+    }
 }
@@ -131,12 +131,13 @@ public class CritterMapper extends AbstractMapper {
         return new CritterMapper(this);
     }
 
-    // Synchronized to prevent concurrent threads from both passing the initial
-    // mappedEntities.get() check and racing to register the same type, which
-    // would cause a duplicate discriminator value error in DiscriminatorLookup.
+    // Locked per type to prevent concurrent threads from both passing the initial
+    // mappedEntities.get() check and racing to generate and register the same type,
+    // which would cause a duplicate discriminator value error in DiscriminatorLookup.
+    // Unrelated types map in parallel.
     @Override
     @Nullable
-    public synchronized EntityModel mapEntity(@Nullable Class type) {
+    public EntityModel mapEntity(@Nullable Class type) {
         if (!isMappable(type)) {
             return null;
         }
@@ -146,15 +147,22 @@ public class CritterMapper extends AbstractMapper {
             return model;
         }
 
-        model = tryLoadPregenerated(type);
-        if (model == null) {
-            model = tryRuntimeGeneration(type);
-        }
-        if (model == null) {
-            model = fallbackToReflection(type);
-        }
+        synchronized (mappingLock(type)) {
+            model = mappedEntities.get(type.getName());
+            if (model != null) {
+                return model;
+            }
 
-        return model != null ? register(model) : null;
+            model = tryLoadPregenerated(type);
+            if (model == null) {
+                model = tryRuntimeGeneration(type);
+            }
+            if (model == null) {
+                model = fallbackToReflection(type);
+            }
+
+            return model != null ? register(model) : null;
+        }
     }
 
     /**
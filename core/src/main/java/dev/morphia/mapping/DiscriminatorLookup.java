@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.mongodb.lang.Nullable;
 
@@ -32,16 +33,30 @@ import org.bson.codecs.configuration.CodecConfigurationException;
 import static java.lang.String.format;
 
 /**
- * Provides lookup capabilities to find a type by its discriminator
+ * Provides lookup capabilities to find a type by its discriminator.
+ * <p>
+ * Discriminators which are not mapped are resolved through the class loader. Those resolutions, successful or not, are cached so that
+ * documents with unmapped or stale discriminators only pay for the class loader lookups once.
  *
  * @hidden
  * @morphia.internal
  */
 @MorphiaInternal
 public final class DiscriminatorLookup {
+    /**
+     * The most class loader resolutions cached. Discriminators come from the data so the caches are bounded.
+     */
+    static final int MAX_SIZE = 10_000;
+
     private final Map<String, Class<?>> discriminatorClassMap = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> resolved = new ConcurrentHashMap<>();
+    private final Set<String> unresolved = ConcurrentHashMap.newKeySet();
     private final Set<String> packages = new ConcurrentSkipListSet<>();
     private final ClassLoader classLoader;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder classLoads = new LongAdder();
+    private final LongAdder classLoadNanos = new LongAdder();
 
     /**
      * Creates a new lookup
@@ -61,7 +76,8 @@ public final class DiscriminatorLookup {
     }
 
     /**
-     * Adds a model to the map
+     * Adds a model to the map. The model's class name is preloaded as well so documents written with class name discriminators resolve
+     * without the class loader.
      *
      * @param entityModel the model
      */
@@ -72,6 +88,9 @@ public final class DiscriminatorLookup {
             throw new MappingException(Sofia.duplicateDiscriminators(discriminator, current.getName(),
                     entityModel.getType().getName()));
         }
+        resolved.put(entityModel.getType().getName(), entityModel.getType());
+        // a discriminator which failed to resolve before may name this model
+        unresolved.clear();
     }
 
     /**
@@ -81,28 +100,81 @@ public final class DiscriminatorLookup {
      * @return the mapped class
      */
     public Class<?> lookup(String discriminator) {
-        if (discriminatorClassMap.containsKey(discriminator)) {
-            return discriminatorClassMap.get(discriminator);
+        Class<?> clazz = discriminatorClassMap.get(discriminator);
+        if (clazz == null) {
+            clazz = resolved.get(discriminator);
+        }
+        if (clazz != null) {
+            hits.increment();
+            return clazz;
+        }
+        if (unresolved.contains(discriminator)) {
+            hits.increment();
+            throw notFound(discriminator);
         }
 
-        Class<?> clazz = getClassForName(discriminator);
+        misses.increment();
+        clazz = getClassForName(discriminator);
         if (clazz == null) {
             clazz = searchPackages(discriminator);
         }
 
         if (clazz == null) {
-            throw new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
+            if (unresolved.size() < MAX_SIZE) {
+                unresolved.add(discriminator);
+            }
+            throw notFound(discriminator);
+        }
+        if (resolved.size() < MAX_SIZE) {
+            resolved.putIfAbsent(discriminator, clazz);
         }
         return clazz;
     }
 
+    /**
+     * @return the number of lookups answered without the class loader
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which had to go to the class loader
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of calls made to the class loader
+     */
+    public long classLoads() {
+        return classLoads.sum();
+    }
+
+    /**
+     * @return the total time, in nanoseconds, spent waiting on the class loader. A high average per {@link #classLoads()} suggests
+     *         contention on the class loader lock.
+     */
+    public long classLoadNanos() {
+        return classLoadNanos.sum();
+    }
+
+    private static CodecConfigurationException notFound(String discriminator) {
+        return new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
+    }
+
     @Nullable
     private Class<?> getClassForName(String discriminator) {
         Class<?> clazz = null;
+        long start = System.nanoTime();
         try {
             clazz = Class.forName(discriminator, true, classLoader);
         } catch (ClassNotFoundException e) {
             // Ignore
+        } finally {
+            classLoads.increment();
+            classLoadNanos.add(System.nanoTime() - start);
         }
         return clazz;
     }
@@ -8,6 +8,7 @@ import dev.morphia.mapping.codec.Conversions;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.mapping.internal.ConstructorPlan;
 import dev.morphia.sofia.Sofia;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -24,7 +25,7 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
     private static final Logger LOG = LoggerFactory.getLogger(InstanceCreatorFactoryImpl.class);
 
     private final EntityModel model;
-    private Function<Conversions, MorphiaInstanceCreator> creator;
+    private volatile Function<Conversions, MorphiaInstanceCreator> creator;
 
     /**
      * Creates a factory for this type
@@ -38,28 +39,37 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
 
     @Override
     public MorphiaInstanceCreator create(Conversions conversions) {
-        if (creator == null) {
-            if (!model.getType().isInterface()) {
-                Constructor<?> constructor = ConstructorCreator.bestConstructor(model);
-                if (constructor != null) {
-                    creator = (c) -> new ConstructorCreator(model, constructor, c);
-                } else {
-                    LOG.info("using old creator approach: " + model.getType().getName());
-                    try {
-                        Constructor<?> declared = model.getType().getDeclaredConstructor();
-                        creator = (c) -> new NoArgCreator(declared);
-                    } catch (NoSuchMethodException e) {
-                        Constructor<?> full = ConstructorCreator.getFullConstructor(model);
-                        creator = (c) -> new ConstructorCreator(model, full, c);
-                    }
-                }
-            }
+        Function<Conversions, MorphiaInstanceCreator> local = creator;
+        if (local == null) {
+            local = resolveCreator();
+            creator = local;
+        }
+
+        return local.apply(conversions);
+    }
 
-            if (creator == null) {
-                throw new MappingException(Sofia.noSuitableConstructor(model.getType().getName()));
+    /**
+     * Resolves the constructor to use once. Constructor based creation precomputes a {@link ConstructorPlan} shared by every instance
+     * decoded for this model so that each decode only allocates the arguments and the instance.
+     */
+    private Function<Conversions, MorphiaInstanceCreator> resolveCreator() {
+        if (!model.getType().isInterface()) {
+            Constructor<?> constructor = ConstructorCreator.bestConstructor(model);
+            if (constructor != null) {
+                ConstructorPlan plan = new ConstructorPlan(model, constructor);
+                return (c) -> new ConstructorCreator(plan, c);
+            } else {
+                LOG.info("using old creator approach: " + model.getType().getName());
+                try {
+                    Constructor<?> declared = model.getType().getDeclaredConstructor();
+                    return (c) -> new NoArgCreator(declared);
+                } catch (NoSuchMethodException e) {
+                    ConstructorPlan plan = new ConstructorPlan(model, ConstructorCreator.getFullConstructor(model));
+                    return (c) -> new ConstructorCreator(plan, c);
+                }
             }
         }
 
-        return creator.apply(conversions);
+        throw new MappingException(Sofia.noSuitableConstructor(model.getType().getName()));
     }
 }
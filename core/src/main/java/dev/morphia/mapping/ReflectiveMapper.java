@@ -70,7 +70,13 @@ public class ReflectiveMapper extends AbstractMapper {
     public EntityModel mapEntity(@Nullable Class type) {
         if (isMappable(type)) {
             EntityModel model = mappedEntities.get(type.getName());
-            return model != null ? model : register(new EntityModel(this, type));
+            if (model != null) {
+                return model;
+            }
+            synchronized (mappingLock(type)) {
+                model = mappedEntities.get(type.getName());
+                return model != null ? model : register(new EntityModel(this, type));
+            }
         }
         return null;
     }
@@ -42,7 +42,24 @@ class ArrayCodec implements Codec<Object> {
             list.add(readValue(reader, decoderContext));
         }
 
-        return list.toArray();
+        return toArray(list);
+    }
+
+    /**
+     * Copies the values in to an array of the property's type when they all fit so accessors can store it as is. Otherwise an
+     * {@code Object[]} is returned and left to the accessor to adapt.
+     */
+    private Object[] toArray(List<Object> list) {
+        Class<?> componentType = type.getComponentType();
+        if (componentType.isPrimitive()) {
+            return list.toArray();
+        }
+        for (Object value : list) {
+            if (value != null && !componentType.isInstance(value)) {
+                return list.toArray();
+            }
+        }
+        return list.toArray((Object[]) Array.newInstance(componentType, list.size()));
     }
 
     @Override
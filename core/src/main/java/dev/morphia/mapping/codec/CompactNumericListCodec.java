@@ -0,0 +1,334 @@
+package dev.morphia.mapping.codec;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Decodes numeric arrays in to lists backed by a primitive array so that no element is boxed until it is read. Arrays holding a
+ * {@code null} are decoded in to an {@code ArrayList} instead. Any {@code Collection} of numbers can be encoded.
+ *
+ * @param <T> the element type
+ * @see dev.morphia.config.MorphiaConfig#compactNumericLists()
+ * @since 3.0
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class CompactNumericListCodec<T extends Number> implements Codec<Collection<T>> {
+    private final Class<Collection<T>> encoderClass;
+    private final Class<T> elementType;
+
+    CompactNumericListCodec(Class<?> encoderClass, Class<T> elementType) {
+        this.encoderClass = (Class<Collection<T>>) encoderClass;
+        this.elementType = elementType;
+    }
+
+    /**
+     * @param collectionType the declared collection type
+     * @param elementType    the element type
+     * @return true if properties of this type may be decoded in to compact lists
+     */
+    static boolean supports(Class<?> collectionType, Class<?> elementType) {
+        return (collectionType.equals(List.class) || collectionType.equals(Collection.class))
+                && (elementType.equals(Integer.class) || elementType.equals(Long.class) || elementType.equals(Double.class));
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Collection<T> value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        if (value instanceof IntList list) {
+            for (int i = 0; i < list.size; i++) {
+                writer.writeInt32(list.values[i]);
+            }
+        } else if (value instanceof LongList list) {
+            for (int i = 0; i < list.size; i++) {
+                writer.writeInt64(list.values[i]);
+            }
+        } else if (value instanceof DoubleList list) {
+            for (int i = 0; i < list.size; i++) {
+                writer.writeDouble(list.values[i]);
+            }
+        } else {
+            for (T element : value) {
+                if (element == null) {
+                    writer.writeNull();
+                } else if (elementType.equals(Integer.class)) {
+                    writer.writeInt32(element.intValue());
+                } else if (elementType.equals(Long.class)) {
+                    writer.writeInt64(element.longValue());
+                } else {
+                    writer.writeDouble(element.doubleValue());
+                }
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Collection<T> decode(BsonReader reader, DecoderContext decoderContext) {
+        PrimitiveList<T> list = newList();
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            // a single value is read as a list of one as MorphiaCollectionCodec does
+            list.read(reader);
+            return list;
+        }
+        List<T> boxed = null;
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                if (boxed == null) {
+                    boxed = new ArrayList<>(list);
+                }
+                boxed.add(null);
+            } else if (boxed != null) {
+                list.clear();
+                list.read(reader);
+                boxed.add(list.get(0));
+            } else {
+                list.read(reader);
+            }
+        }
+        reader.readEndArray();
+        return boxed != null ? boxed : list;
+    }
+
+    @Override
+    public Class<Collection<T>> getEncoderClass() {
+        return encoderClass;
+    }
+
+    private PrimitiveList<T> newList() {
+        if (elementType.equals(Integer.class)) {
+            return (PrimitiveList<T>) new IntList();
+        } else if (elementType.equals(Long.class)) {
+            return (PrimitiveList<T>) new LongList();
+        }
+        return (PrimitiveList<T>) new DoubleList();
+    }
+
+    /**
+     * A mutable list over a growable primitive array. {@code null} elements are not permitted.
+     *
+     * @param <T> the boxed element type
+     */
+    abstract static class PrimitiveList<T> extends AbstractList<T> implements RandomAccess {
+        int size;
+
+        /**
+         * Reads the current value from the reader and appends it
+         *
+         * @param reader the reader
+         */
+        abstract void read(BsonReader reader);
+
+        abstract int capacity();
+
+        abstract void grow(int capacity);
+
+        abstract void shift(int from, int to, int length);
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        void check(int index) {
+            Objects.checkIndex(index, size);
+        }
+
+        void open(int index) {
+            Objects.checkIndex(index, size + 1);
+            if (size == capacity()) {
+                grow(Math.max(16, size * 2));
+            }
+            shift(index, index + 1, size - index);
+            size++;
+            modCount++;
+        }
+
+        void close(int index) {
+            shift(index + 1, index, size - index - 1);
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public void clear() {
+            size = 0;
+            modCount++;
+        }
+    }
+
+    static final class IntList extends PrimitiveList<Integer> {
+        int[] values = new int[16];
+
+        @Override
+        void read(BsonReader reader) {
+            open(size);
+            values[size - 1] = NumericValues.readInt(reader);
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        public Integer get(int index) {
+            check(index);
+            return values[index];
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            check(index);
+            int old = values[index];
+            values[index] = element;
+            return old;
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            int value = element;
+            open(index);
+            values[index] = value;
+        }
+
+        @Override
+        public Integer remove(int index) {
+            check(index);
+            int old = values[index];
+            close(index);
+            return old;
+        }
+    }
+
+    static final class LongList extends PrimitiveList<Long> {
+        long[] values = new long[16];
+
+        @Override
+        void read(BsonReader reader) {
+            open(size);
+            values[size - 1] = NumericValues.readLong(reader);
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        public Long get(int index) {
+            check(index);
+            return values[index];
+        }
+
+        @Override
+        public Long set(int index, Long element) {
+            check(index);
+            long old = values[index];
+            values[index] = element;
+            return old;
+        }
+
+        @Override
+        public void add(int index, Long element) {
+            long value = element;
+            open(index);
+            values[index] = value;
+        }
+
+        @Override
+        public Long remove(int index) {
+            check(index);
+            long old = values[index];
+            close(index);
+            return old;
+        }
+    }
+
+    static final class DoubleList extends PrimitiveList<Double> {
+        double[] values = new double[16];
+
+        @Override
+        void read(BsonReader reader) {
+            open(size);
+            values[size - 1] = NumericValues.readDouble(reader);
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void shift(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        public Double get(int index) {
+            check(index);
+            return values[index];
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            check(index);
+            double old = values[index];
+            values[index] = element;
+            return old;
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            double value = element;
+            open(index);
+            values[index] = value;
+        }
+
+        @Override
+        public Double remove(int index) {
+            check(index);
+            double old = values[index];
+            close(index);
+            return old;
+        }
+    }
+}
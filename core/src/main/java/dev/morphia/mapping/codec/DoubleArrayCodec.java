@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes {@code double[]} values directly without boxing their elements.
+ *
+ * @since 3.0
+ */
+class DoubleArrayCodec implements Codec<double[]> {
+    @Override
+    public void encode(BsonWriter writer, double[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (double element : value) {
+            writer.writeDouble(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public double[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        double[] values = new double[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = NumericValues.readDouble(reader);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<double[]> getEncoderClass() {
+        return double[].class;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes {@code int[]} values directly without boxing their elements.
+ *
+ * @since 3.0
+ */
+class IntArrayCodec implements Codec<int[]> {
+    @Override
+    public void encode(BsonWriter writer, int[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (int element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public int[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        int[] values = new int[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = NumericValues.readInt(reader);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<int[]> getEncoderClass() {
+        return int[].class;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes {@code long[]} values directly without boxing their elements.
+ *
+ * @since 3.0
+ */
+class LongArrayCodec implements Codec<long[]> {
+    @Override
+    public void encode(BsonWriter writer, long[] value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (long element : value) {
+            writer.writeInt64(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public long[] decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+        long[] values = new long[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = NumericValues.readLong(reader);
+        }
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<long[]> getEncoderClass() {
+        return long[].class;
+    }
+}
@@ -52,7 +52,7 @@ public class MorphiaCodecProvider implements CodecProvider {
         this.conversions = mapper.getConversions();
 
         propertyCodecProviders.addAll(List.of(new MorphiaMapPropertyCodecProvider(datastore, conversions),
-                new MorphiaCollectionPropertyCodecProvider()));
+                new MorphiaCollectionPropertyCodecProvider(mapper.getConfig().compactNumericLists())));
 
         ServiceLoader<MorphiaPropertyCodecProvider> providers = ServiceLoader.load(MorphiaPropertyCodecProvider.class);
         providers.forEach(provider -> {
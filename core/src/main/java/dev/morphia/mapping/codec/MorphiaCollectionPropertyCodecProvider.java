@@ -22,12 +22,35 @@ import org.bson.codecs.pojo.TypeWithTypeParameters;
 @MorphiaInternal
 @SuppressWarnings("unchecked")
 public class MorphiaCollectionPropertyCodecProvider extends MorphiaPropertyCodecProvider {
+    private final boolean compactNumericLists;
+
+    /**
+     * Creates a provider which decodes every collection in to the collection type declared
+     */
+    public MorphiaCollectionPropertyCodecProvider() {
+        this(false);
+    }
+
+    /**
+     * Creates a provider
+     *
+     * @param compactNumericLists true if numeric lists should be decoded in to lists backed by primitive arrays
+     * @see dev.morphia.config.MorphiaConfig#compactNumericLists()
+     * @since 3.0
+     */
+    public MorphiaCollectionPropertyCodecProvider(boolean compactNumericLists) {
+        this.compactNumericLists = compactNumericLists;
+    }
+
     @Nullable
     @Override
     public <T> Codec<T> get(TypeWithTypeParameters<T> type, PropertyCodecRegistry registry) {
         if (Collection.class.isAssignableFrom(type.getType())) {
             final List<? extends TypeWithTypeParameters<?>> typeParameters = type.getTypeParameters();
             TypeWithTypeParameters<?> valueType = getType(typeParameters, 0);
+            if (compactNumericLists && CompactNumericListCodec.supports(type.getType(), valueType.getType())) {
+                return (Codec<T>) new CompactNumericListCodec<>(type.getType(), (Class<? extends Number>) valueType.getType());
+            }
 
             try {
                 return new MorphiaCollectionCodec(registry.get(valueType), type.getType());
@@ -40,13 +40,17 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new BitSetCodec());
         addCodec(new FieldsCodec(datastore));
         addCodec(new TypeCodec());
+        addCodec(new ParameterCodec());
 
+        addCodec(new IntArrayCodec());
+        addCodec(new LongArrayCodec());
+        addCodec(new DoubleArrayCodec());
         List.of(boolean.class, Boolean.class,
                 char.class, Character.class,
-                double.class, Double.class,
+                Double.class,
                 float.class, Float.class,
-                int.class, Integer.class,
-                long.class, Long.class,
+                Integer.class,
+                Long.class,
                 short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(datastore, c)));
     }
 
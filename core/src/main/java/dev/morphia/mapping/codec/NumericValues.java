@@ -0,0 +1,113 @@
+package dev.morphia.mapping.codec;
+
+import java.math.BigDecimal;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.types.Decimal128;
+
+import static java.lang.String.format;
+
+/**
+ * Reads numeric values in to primitives regardless of which BSON numeric type they were stored as. Conversions which would lose
+ * information are rejected as the driver's own numeric codecs do.
+ */
+final class NumericValues {
+    private NumericValues() {
+    }
+
+    static int readInt(BsonReader reader) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case INT32:
+                return reader.readInt32();
+            case INT64: {
+                long value = reader.readInt64();
+                if ((int) value != value) {
+                    throw lossy(value, "int");
+                }
+                return (int) value;
+            }
+            case DOUBLE: {
+                double value = reader.readDouble();
+                if ((int) value != value) {
+                    throw lossy(value, "int");
+                }
+                return (int) value;
+            }
+            case DECIMAL128:
+                try {
+                    return reader.readDecimal128().bigDecimalValue().intValueExact();
+                } catch (ArithmeticException e) {
+                    throw new BsonInvalidOperationException(e.getMessage());
+                }
+            default:
+                throw invalid(type);
+        }
+    }
+
+    static long readLong(BsonReader reader) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            case DOUBLE: {
+                double value = reader.readDouble();
+                if ((long) value != value) {
+                    throw lossy(value, "long");
+                }
+                return (long) value;
+            }
+            case DECIMAL128:
+                try {
+                    return reader.readDecimal128().bigDecimalValue().longValueExact();
+                } catch (ArithmeticException e) {
+                    throw new BsonInvalidOperationException(e.getMessage());
+                }
+            default:
+                throw invalid(type);
+        }
+    }
+
+    static double readDouble(BsonReader reader) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case INT32:
+                return reader.readInt32();
+            case INT64: {
+                long value = reader.readInt64();
+                if ((long) (double) value != value) {
+                    throw lossy(value, "double");
+                }
+                return value;
+            }
+            case DOUBLE:
+                return reader.readDouble();
+            case DECIMAL128: {
+                Decimal128 value = reader.readDecimal128();
+                try {
+                    double converted = value.doubleValue();
+                    if (!value.equals(new Decimal128(new BigDecimal(converted)))) {
+                        throw lossy(value, "double");
+                    }
+                    return converted;
+                } catch (NumberFormatException e) {
+                    throw lossy(value, "double");
+                }
+            }
+            default:
+                throw invalid(type);
+        }
+    }
+
+    private static BsonInvalidOperationException lossy(Object value, String target) {
+        return new BsonInvalidOperationException(format("Could not convert `%s` to type %s without losing precision", value, target));
+    }
+
+    private static BsonInvalidOperationException invalid(BsonType type) {
+        return new BsonInvalidOperationException(format("Invalid numeric type, found: %s", type));
+    }
+}
@@ -0,0 +1,39 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.Parameter;
+import dev.morphia.query.PreparedQuery;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Writes the bind slot for a {@link Parameter} while a query is being prepared.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ParameterCodec implements Codec<Parameter> {
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt32(PreparedQuery.SLOT, PreparedQuery.slot(value));
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
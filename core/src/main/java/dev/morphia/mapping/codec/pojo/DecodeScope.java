@@ -0,0 +1,101 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.util.function.Supplier;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Per query decoding options which the codecs can not be configured with directly. While a scope is active on the current thread, the next
+ * entity decoded is returned as a lazily decoded entity if requested.
+ * <p>
+ * A scope applies to the outermost entity only. The decoder claims it for the duration of the decode so embedded entities and references
+ * fetched while decoding are decoded as usual.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class DecodeScope {
+    private static final ThreadLocal<DecodeScope> CURRENT = new ThreadLocal<>();
+
+    private final boolean lazy;
+
+    private DecodeScope(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * @param lazy true if entities should be decoded lazily
+     * @return the scope or null if no option is in effect
+     */
+    @Nullable
+    public static DecodeScope of(boolean lazy) {
+        return lazy ? new DecodeScope(lazy) : null;
+    }
+
+    /**
+     * @return the scope active on the current thread, if any
+     */
+    @Nullable
+    public static DecodeScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Takes the scope active on the current thread, if any, so that nested decodes do not see it
+     *
+     * @return the scope or null
+     * @see #restore(DecodeScope)
+     */
+    @Nullable
+    public static DecodeScope claim() {
+        DecodeScope scope = CURRENT.get();
+        if (scope != null) {
+            CURRENT.remove();
+        }
+        return scope;
+    }
+
+    /**
+     * Reactivates a scope taken by {@link #claim()}
+     *
+     * @param scope the scope
+     */
+    public static void restore(@Nullable DecodeScope scope) {
+        if (scope != null) {
+            CURRENT.set(scope);
+        }
+    }
+
+    /**
+     * @return true if entities should be decoded lazily
+     * @see dev.morphia.query.FindOptions#lazy(boolean)
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Runs the given action with this scope active on the current thread.
+     *
+     * @param action the action to run
+     * @param <R>    the result type
+     * @return the action's result
+     */
+    public <R> R within(Supplier<R> action) {
+        DecodeScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -2,9 +2,11 @@ package dev.morphia.mapping.codec.pojo;
 
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
@@ -32,10 +34,13 @@ public class EntityDecoder<T> implements Decoder<T> {
 
     private final MorphiaCodec<T> morphiaCodec;
     private final EntityModel classModel;
+    private final boolean lazy;
 
     protected EntityDecoder(MorphiaCodec<T> morphiaCodec) {
         this.morphiaCodec = morphiaCodec;
         classModel = morphiaCodec.getEntityModel();
+        Entity entity = classModel.getEntityAnnotation();
+        lazy = entity != null && entity.lazy();
     }
 
     @Override
@@ -44,9 +49,32 @@ public class EntityDecoder<T> implements Decoder<T> {
         T entity;
         if (decoderContext.hasCheckedDiscriminator()) {
             LOG.debug(format("Decoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
-            MorphiaInstanceCreator instanceCreator = getInstanceCreator();
-            decodeProperties(reader, decoderContext, instanceCreator, classModel);
-            return (T) instanceCreator.getInstance();
+            DecodeScope scope = DecodeScope.claim();
+            try {
+                if (lazy || scope != null && scope.isLazy()) {
+                    entity = LazyEntity.decode(this, classModel, reader, decoderContext);
+                    if (entity != null) {
+                        return entity;
+                    }
+                }
+                MorphiaInstanceCreator instanceCreator = getInstanceCreator();
+                ReferenceBatch batch = ReferenceBatch.current();
+                if (batch == null) {
+                    decodeProperties(reader, decoderContext, instanceCreator, classModel);
+                    return (T) instanceCreator.getInstance();
+                }
+                batch.enter(true);
+                entity = null;
+                try {
+                    decodeProperties(reader, decoderContext, instanceCreator, classModel);
+                    entity = (T) instanceCreator.getInstance();
+                } finally {
+                    batch.exit(entity);
+                }
+                return entity;
+            } finally {
+                DecodeScope.restore(scope);
+            }
         } else {
             entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.discriminatorKey(),
                     morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
@@ -80,11 +108,28 @@ public class EntityDecoder<T> implements Decoder<T> {
 
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
             MorphiaInstanceCreator instanceCreator, EntityModel classModel) {
+        decodeProperties(reader, decoderContext, instanceCreator, classModel, null);
+    }
+
+    /**
+     * Decodes the properties of a document
+     *
+     * @param reader          the reader
+     * @param decoderContext  the context
+     * @param instanceCreator the creator to apply the values to
+     * @param classModel      the model of the type being decoded
+     * @param projection      the fields to decode or null to decode every field
+     * @since 3.0
+     */
+    protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
+            MorphiaInstanceCreator instanceCreator, EntityModel classModel, @Nullable ProjectionMask projection) {
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String name = reader.readName();
             if (classModel.useDiscriminator() && classModel.discriminatorKey().equals(name)) {
                 reader.readString();
+            } else if (projection != null && !projection.includes(name)) {
+                reader.skipValue();
             } else {
                 decodeModel(reader, decoderContext, instanceCreator, classModel.getProperty(name));
             }
@@ -41,7 +41,7 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
-        if (areEquivalentTypes(value.getClass(), model.getType())) {
+        if (areEquivalentTypes(entityType(value), model.getType())) {
             LOG.debug(format("Encoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
 
             document(writer, () -> {
@@ -88,6 +88,19 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
         return morphiaCodec.getEncoderClass();
     }
 
+    /**
+     * @param value the entity to encode
+     * @return the type to encode the entity as. Lazily decoded entities are decoded in full first so their fields may be read directly.
+     * @since 3.0
+     */
+    protected Class<?> entityType(Object value) {
+        if (value instanceof LazyEntity.Proxy) {
+            ((LazyEntity.Proxy) value).unwrap();
+            return value.getClass().getSuperclass();
+        }
+        return value.getClass();
+    }
+
     protected <S, V> boolean areEquivalentTypes(Class<S> t1, Class<V> t2) {
         return t1.equals(t2)
                 || Collection.class.isAssignableFrom(t1) && Collection.class.isAssignableFrom(t2)
@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
+import com.mongodb.WriteConcern;
 import com.mongodb.lang.NonNull;
 import com.mongodb.lang.Nullable;
 
@@ -37,6 +38,7 @@ import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.ShardKeys;
 import dev.morphia.annotations.Version;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.InstanceCreatorFactory;
 import dev.morphia.mapping.InstanceCreatorFactoryImpl;
 import dev.morphia.mapping.Mapper;
@@ -87,6 +89,7 @@ public class EntityModel {
     private boolean discriminatorEnabled;
     private String discriminatorKey;
     private String discriminator;
+    private WriteConcern writeConcern;
     private Class<?> type;
     private String collectionName;
     private final Set<EntityModel> subtypes = new CopyOnWriteArraySet<>();
@@ -95,6 +98,7 @@ public class EntityModel {
     private PropertyModel versionProperty;
     private final List<EntityListener<?>> listeners = new ArrayList<>();
     private final Set<Class<?>> classes = new LinkedHashSet<>();
+    private final PathCache pathCache = new PathCache();
 
     public EntityModel(Class<?> type) {
         if (!Modifier.isStatic(type.getModifiers()) && type.isMemberClass()) {
@@ -154,6 +158,7 @@ public class EntityModel {
         }
 
         this.collectionName = other.collectionName;
+        writeConcern = other.writeConcern;
         creatorFactory = new InstanceCreatorFactoryImpl(this);
 
         PropertyModel otherId = other.idProperty;
@@ -279,6 +284,36 @@ public class EntityModel {
         return discriminatorKey;
     }
 
+    /**
+     * @return the write concern named by {@link Entity#concern()} or null if none is given
+     * @see #resolveWriteConcern()
+     * @since 3.0
+     */
+    @Nullable
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+
+    /**
+     * Resolves the write concern named by {@link Entity#concern()} so that an unknown name fails as the entity is mapped.
+     *
+     * @throws MappingException if the write concern is not known
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void resolveWriteConcern() {
+        Entity annotation = getEntityAnnotation();
+        if (annotation != null && !annotation.concern().isEmpty()) {
+            WriteConcern concern = WriteConcern.valueOf(annotation.concern());
+            if (concern == null) {
+                throw new MappingException(Sofia.unknownWriteConcern(annotation.concern(), getType().getName()));
+            }
+            writeConcern = concern;
+        }
+    }
+
     /**
      * @return the entityAn
      */
@@ -380,6 +415,14 @@ public class EntityModel {
         return superClass;
     }
 
+    /**
+     * @return the cache of resolved query paths rooted at this model
+     * @since 3.0
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
     /**
      * @return the type of this model
      */
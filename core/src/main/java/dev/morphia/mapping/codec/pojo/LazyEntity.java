@@ -0,0 +1,231 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.ByteCodeElement;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.FieldValue;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.matcher.ElementMatcher.Junction;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import static java.lang.String.format;
+
+/**
+ * Holds the raw document behind a lazily decoded entity. The entity handed back to the application is an instance of a generated subclass
+ * of the entity type which carries only its ID until the first call to one of its methods. That call decodes the remaining properties from
+ * the raw document before it proceeds.
+ * <p>
+ * Fields read directly rather than through a method are not intercepted so they stay unset until the entity has been materialized.
+ * Entities which can not be subclassed, e.g. final types, records, or types without a no-argument constructor, are decoded as usual.
+ *
+ * @hidden
+ * @morphia.internal
+ * @see dev.morphia.query.FindOptions#lazy(boolean)
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class LazyEntity implements MorphiaProxy {
+    private static final Logger LOG = LoggerFactory.getLogger(LazyEntity.class);
+    private static final String FIELD_LAZY_ENTITY = "__morphiaLazyEntity";
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+    private static final ProjectionMask ID_ONLY = ProjectionMask.of(new Document("_id", 1));
+
+    private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            int modifiers = type.getModifiers();
+            if (type.isInterface() || type.isRecord() || Modifier.isAbstract(modifiers) || Modifier.isFinal(modifiers)
+                    || MorphiaProxy.class.isAssignableFrom(type)) {
+                return Optional.empty();
+            }
+            try {
+                if (Modifier.isPrivate(type.getDeclaredConstructor().getModifiers())) {
+                    return Optional.empty();
+                }
+                Class<?> proxyClass = makeProxy(type);
+                return Optional.of(MethodHandles.privateLookupIn(proxyClass, MethodHandles.lookup())
+                        .findConstructor(proxyClass, MethodType.methodType(void.class)));
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                LOG.debug(format("Entities of type '%s' can not be decoded lazily: %s", type.getName(), e.getMessage()), e);
+                return Optional.empty();
+            }
+        }
+    };
+
+    private final EntityDecoder<?> decoder;
+    private final EntityModel model;
+    private final Object entity;
+    @Nullable
+    private RawBsonDocument document;
+    private volatile boolean fetched;
+    @Nullable
+    private Thread decoding;
+
+    private LazyEntity(EntityDecoder<?> decoder, EntityModel model, Object entity, RawBsonDocument document) {
+        this.decoder = decoder;
+        this.model = model;
+        this.entity = entity;
+        this.document = document;
+    }
+
+    /**
+     * Creates a lazily decoded entity from the current document of the reader. If the type can not be decoded lazily, the reader is left
+     * untouched.
+     *
+     * @param decoder        the decoder to decode the properties with once they are needed
+     * @param model          the model of the type being decoded
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @param <T>            the entity type
+     * @return the entity or null if the type can not be decoded lazily
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(EntityDecoder<T> decoder, EntityModel model, BsonReader reader, DecoderContext decoderContext) {
+        MethodHandle constructor = CONSTRUCTORS.get(model.getType()).orElse(null);
+        if (constructor == null) {
+            return null;
+        }
+        Object entity;
+        try {
+            entity = constructor.invoke();
+        } catch (Throwable e) {
+            throw new MappingException(Sofia.instantiationProblem(model.getType().getName(), e.getMessage()), e);
+        }
+        LazyEntity lazy = new LazyEntity(decoder, model, entity, RAW_CODEC.decode(reader, decoderContext));
+        ((Proxy) entity).lazyEntity(lazy);
+        // the ID is cheap to decode and almost always needed, e.g. to save or to reference the entity, so it is decoded up front
+        lazy.decodeProperties(ID_ONLY);
+        return (T) entity;
+    }
+
+    /**
+     * Decodes the entity if it has not been decoded yet and then calls the intercepted method
+     *
+     * @param method the intercepted method
+     * @param lazy   the lazy entity or null while the entity's constructor is still running
+     * @return the method's result
+     * @throws Exception if the method fails
+     */
+    @RuntimeType
+    public static Object intercept(@SuperCall Callable<?> method, @Nullable @FieldValue(FIELD_LAZY_ENTITY) LazyEntity lazy)
+            throws Exception {
+        if (lazy != null && !lazy.fetched && lazy.decoding != Thread.currentThread()) {
+            lazy.materialize();
+        }
+        return method.call();
+    }
+
+    @Override
+    public boolean isFetched() {
+        return fetched;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap() {
+        if (!fetched) {
+            materialize();
+        }
+        return (T) entity;
+    }
+
+    private synchronized void materialize() {
+        if (!fetched) {
+            decodeProperties(null);
+            fetched = true;
+            document = null;
+        }
+    }
+
+    private void decodeProperties(@Nullable ProjectionMask projection) {
+        // setters invoked while decoding are intercepted too and must not trigger another decode
+        decoding = Thread.currentThread();
+        try {
+            decoder.decodeProperties(document.asBsonReader(), DecoderContext.builder().build(), new MorphiaInstanceCreator() {
+                @Override
+                public Object getInstance() {
+                    return entity;
+                }
+
+                @Override
+                public void set(@Nullable Object value, PropertyModel property) {
+                    property.getAccessor().set(entity, value);
+                }
+            }, model, projection);
+        } finally {
+            decoding = null;
+        }
+    }
+
+    private static Class<?> makeProxy(Class<?> type) throws IllegalAccessException {
+        Junction<ByteCodeElement> matcher = ElementMatchers.isDeclaredBy(type);
+        Class<?> superclass = type.getSuperclass();
+        while (superclass != null && !superclass.equals(Object.class)) {
+            matcher = matcher.or(ElementMatchers.isDeclaredBy(superclass));
+            superclass = superclass.getSuperclass();
+        }
+
+        return new ByteBuddy()
+                .subclass(type)
+                .implement(Proxy.class)
+                .name(type.getName() + "$$LazyEntity")
+                .defineField(FIELD_LAZY_ENTITY, LazyEntity.class, Visibility.PRIVATE)
+                .method(matcher.and(ElementMatchers.not(ElementMatchers.isFinal())))
+                .intercept(MethodDelegation.withDefaultConfiguration()
+                        .filter(ElementMatchers.named("intercept"))
+                        .to(LazyEntity.class))
+                .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                .intercept(MethodDelegation.withDefaultConfiguration()
+                        .filter(ElementMatchers.named("isFetched").or(ElementMatchers.named("unwrap")))
+                        .toField(FIELD_LAZY_ENTITY))
+                .method(ElementMatchers.isDeclaredBy(Proxy.class))
+                .intercept(FieldAccessor.ofField(FIELD_LAZY_ENTITY))
+                .make()
+                // defined alongside the entity type so package private members may be overridden and called
+                .load(type.getClassLoader(),
+                        ClassLoadingStrategy.UsingLookup.of(MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+                .getLoaded();
+    }
+
+    /**
+     * Implemented by the generated subclasses of lazily decoded entities
+     *
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public interface Proxy extends MorphiaProxy {
+        /**
+         * @param lazyEntity the raw document to decode the entity from
+         */
+        void lazyEntity(LazyEntity lazyEntity);
+    }
+}
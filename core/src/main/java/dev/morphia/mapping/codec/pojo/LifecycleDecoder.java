@@ -5,16 +5,24 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
 import org.bson.BsonReader;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
 import static java.lang.String.format;
 
 /**
+ * Decodes entities with lifecycle events. The incoming document is captured as raw BSON and the entity is decoded directly from those
+ * bytes. Listeners are handed a {@code Document} view that is only materialized if they actually access it in which case the entity is
+ * decoded from that, possibly modified, document instead.
+ *
  * @param <T> the type
  * @hidden
  * @morphia.internal
@@ -22,6 +30,8 @@ import static java.lang.String.format;
  */
 @MorphiaInternal
 public class LifecycleDecoder<T> extends EntityDecoder<T> {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+
     /**
      * creates the decoder
      *
@@ -32,14 +42,24 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
+        // listeners may rely on any property so entities with lifecycle events are always decoded eagerly and in full
+        DecodeScope scope = DecodeScope.claim();
+        try {
+            return decodeEntity(reader, decoderContext);
+        } finally {
+            DecodeScope.restore(scope);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decodeEntity(BsonReader reader, DecoderContext decoderContext) {
+        RawBsonDocument raw = RAW_CODEC.decode(reader, decoderContext);
         EntityModel model = getMorphiaCodec().getEntityModel();
         if (model.useDiscriminator()) {
-            String discriminator = document.getString(model.discriminatorKey());
-            if (discriminator != null) {
-                Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
+            BsonValue discriminator = raw.get(model.discriminatorKey());
+            if (discriminator != null && !discriminator.isNull()) {
+                Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator.asString().getValue());
                 // need to load the codec to initialize cachedCodecs in field models
                 Codec<?> codec = getMorphiaCodec().getRegistry().get(discriminatorClass);
                 if (codec instanceof MorphiaCodec) {
@@ -52,9 +72,22 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
         final MorphiaInstanceCreator instanceCreator = model.getInstanceCreator(getMorphiaCodec().getConversions());
         T entity = (T) instanceCreator.getInstance();
 
+        LazyDocument document = new LazyDocument(raw, getMorphiaCodec().getRegistry().get(Document.class));
         model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getDatastore());
-        decodeProperties(new DocumentReader(document, getMorphiaCodec().getConversions()), decoderContext, instanceCreator,
-                model);
+        // lifecycle listeners expect references to be populated by the time PostLoad fires so nothing here can be deferred
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null) {
+            batch.enter(false);
+        }
+        try (BsonReader source = document.isMaterialized()
+                ? new DocumentReader(document, getMorphiaCodec().getConversions())
+                : raw.asBsonReader()) {
+            decodeProperties(source, decoderContext, instanceCreator, model);
+        } finally {
+            if (batch != null) {
+                batch.exit(entity);
+            }
+        }
         model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getDatastore());
 
         return entity;
@@ -0,0 +1,79 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.Document;
+
+/**
+ * The top level fields of an including projection. Decoding with a mask skips any field outside the projection, e.g. to read only the ID of
+ * a lazily decoded entity.
+ *
+ * @hidden
+ * @morphia.internal
+ * @see LazyEntity
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ProjectionMask {
+    private final Set<String> fields;
+
+    private ProjectionMask(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Compiles a projection document in to a mask.
+     *
+     * @param projection the mapped projection
+     * @return the mask or null if the projection does not limit which fields are returned
+     */
+    @Nullable
+    public static ProjectionMask of(@Nullable Document projection) {
+        if (projection == null) {
+            return null;
+        }
+        Set<String> fields = new HashSet<>();
+        boolean including = false;
+        boolean id = true;
+        for (Entry<String, Object> entry : projection.entrySet()) {
+            String name = entry.getKey();
+            Object value = entry.getValue();
+            if (name.equals("_id")) {
+                id = !excluded(value);
+                including |= id;
+            } else if (excluded(value)) {
+                return null;
+            } else {
+                // $slice and $meta on their own still return every other field
+                including |= value instanceof Number || value instanceof Boolean;
+                int dot = name.indexOf('.');
+                fields.add(dot < 0 ? name : name.substring(0, dot));
+            }
+        }
+        if (!including) {
+            return null;
+        }
+        if (id) {
+            fields.add("_id");
+        }
+        return new ProjectionMask(fields);
+    }
+
+    /**
+     * @param field the field name
+     * @return true if the field is part of the projection
+     */
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    private static boolean excluded(@Nullable Object value) {
+        return value instanceof Number && ((Number) value).intValue() == 0 || Boolean.FALSE.equals(value);
+    }
+}
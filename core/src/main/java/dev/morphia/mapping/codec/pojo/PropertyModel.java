@@ -261,6 +261,7 @@ public class PropertyModel {
 
     public PropertyModel typeData(TypeData<?> data) {
         typeData = data;
+        normalizedType = null;
         return this;
     }
 
@@ -0,0 +1,114 @@
+package dev.morphia.mapping.codec.pojo.critter;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.Conversions;
+
+import org.bson.codecs.pojo.PropertyAccessor;
+
+import static java.lang.String.format;
+
+/**
+ * Adapts decoded values to the array type of the property they are written to. Codecs may hand back an {@code Object[]} or a {@code List}
+ * for an array-typed property, neither of which a generated accessor can store in a typed array field directly. Each element is run
+ * through the mapper's {@link Conversions} the same way {@link dev.morphia.mapping.codec.ArrayFieldAccessor} does for reflective access.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ArrayAdapter {
+    private ArrayAdapter() {
+    }
+
+    /**
+     * Copies the value in to a new array of the given type unless it already is one
+     *
+     * @param value     the decoded value
+     * @param arrayType the array type of the property
+     * @return the adapted value
+     * @throws IllegalArgumentException if an element can not be stored in the target array
+     */
+    @Nullable
+    public static Object adapt(@Nullable Object value, Class<?> arrayType) {
+        return adapt(value, arrayType, null);
+    }
+
+    /**
+     * Copies the value in to a new array of the given type unless it already is one, converting each element to the component type
+     *
+     * @param value       the decoded value
+     * @param arrayType   the array type of the property
+     * @param conversions the conversions to apply to each element or null to store the elements as they are
+     * @return the adapted value
+     * @throws IllegalArgumentException if an element can not be stored in the target array
+     */
+    @Nullable
+    public static Object adapt(@Nullable Object value, Class<?> arrayType, @Nullable Conversions conversions) {
+        if (value == null || arrayType.isInstance(value)) {
+            return value;
+        }
+        Class<?> componentType = arrayType.getComponentType();
+        if (value instanceof List<?> list) {
+            Object array = Array.newInstance(componentType, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                set(array, i, list.get(i), componentType, conversions);
+            }
+            return array;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object array = Array.newInstance(componentType, length);
+            for (int i = 0; i < length; i++) {
+                set(array, i, Array.get(value, i), componentType, conversions);
+            }
+            return array;
+        }
+        throw new IllegalArgumentException(format("Can not convert '%s' to type '%s'", value, arrayType.getName()));
+    }
+
+    /**
+     * Wraps a generated accessor for an array-typed property so that values are adapted with the mapper's conversions before the
+     * generated code stores them.
+     *
+     * @param accessor    the generated accessor
+     * @param arrayType   the array type of the property
+     * @param conversions the conversions to apply to each element
+     * @return the wrapped accessor
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static PropertyAccessor<?> converting(PropertyAccessor<?> accessor, Class<?> arrayType, Conversions conversions) {
+        PropertyAccessor delegate = accessor;
+        return new PropertyAccessor<Object>() {
+            @Override
+            public <S> Object get(S instance) {
+                return delegate.get(instance);
+            }
+
+            @Override
+            public <S> void set(S instance, @Nullable Object value) {
+                delegate.set(instance, adapt(value, arrayType, conversions));
+            }
+        };
+    }
+
+    private static void set(Object array, int index, @Nullable Object element, Class<?> componentType,
+            @Nullable Conversions conversions) {
+        Object value;
+        if (componentType.isArray()) {
+            value = adapt(element, componentType, conversions);
+        } else {
+            value = conversions != null && element != null ? conversions.convert(element, componentType) : element;
+        }
+        try {
+            Array.set(array, index, value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Can not convert '%s' to type '%s'", value, componentType.getName()), e);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package dev.morphia.mapping.codec.references;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import static dev.morphia.query.filters.Filters.in;
+
+/**
+ * Collects the references decoded while a cursor reads a batch of documents so that they can be fetched with one {@code $in} query per
+ * referenced collection rather than one query per reference. A batch is activated for the current thread via
+ * {@link #within(Supplier)} and entity decoders mark the boundaries of each decoded entity via {@link #enter(boolean)} and
+ * {@link #exit(Object)} so that deferred values can be applied to the right instance once the window closes.
+ * <p>
+ * Lazy references registered in the same window share a single loader: the first proxy to be accessed fetches the ids for every lazy
+ * reference decoded in that window.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final MorphiaDatastore datastore;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private List<Pending> pending = new ArrayList<>();
+    private LazyGroup lazy;
+
+    /**
+     * Creates a batch
+     *
+     * @param datastore the datastore to use when resolving references
+     */
+    public ReferenceBatch(MorphiaDatastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch active on the current thread, if any
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given action with this batch active on the current thread and then resolves any references deferred while it ran.
+     *
+     * @param action the action to run
+     * @param <R>    the result type
+     * @return the action's result
+     */
+    public <R> R within(Supplier<R> action) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        R result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            frames.clear();
+            pending = new ArrayList<>();
+            throw e;
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        resolve();
+        return result;
+    }
+
+    /**
+     * @return the datastore for this batch
+     */
+    public MorphiaDatastore getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * Marks the start of an entity's decoding. Entities nested inside a non-deferrable entity are never deferrable themselves.
+     *
+     * @param deferrable true if references on this entity may be resolved after the entity has been created
+     */
+    public void enter(boolean deferrable) {
+        Frame parent = frames.peek();
+        frames.push(new Frame(deferrable && (parent == null || parent.deferrable)));
+    }
+
+    /**
+     * Marks the end of an entity's decoding.
+     *
+     * @param instance the decoded instance or null if decoding failed
+     */
+    public void exit(@Nullable Object instance) {
+        Frame frame = frames.pop();
+        if (instance != null && frame.pending != null) {
+            for (Pending entry : frame.pending) {
+                entry.instance = instance;
+                pending.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Defers the resolution of a reference until the batch window closes.
+     *
+     * @param model     the property to update once resolved
+     * @param ids       the ids to fetch keyed by collection name
+     * @param assembler builds the property value from the fetched entities
+     * @return false if the reference can not be deferred and should be fetched immediately
+     */
+    public boolean defer(PropertyModel model, Map<String, List<Object>> ids, Function<Resolver, Object> assembler) {
+        Frame frame = frames.peek();
+        // final properties (e.g. record components) can not be updated once the instance exists
+        if (frame == null || !frame.deferrable || model.isFinal()) {
+            return false;
+        }
+        if (frame.pending == null) {
+            frame.pending = new ArrayList<>();
+        }
+        frame.pending.add(new Pending(model, ids, assembler));
+        return true;
+    }
+
+    /**
+     * Registers a lazy reference with the batch. The returned loader fetches every lazy reference registered in the same window the
+     * first time any of them is invoked.
+     *
+     * @param ids       the ids to fetch keyed by collection name
+     * @param assembler builds the reference value from the fetched entities
+     * @return the loader to give to the proxy
+     */
+    public Supplier<Object> lazy(Map<String, List<Object>> ids, Function<Resolver, Object> assembler) {
+        if (lazy == null) {
+            lazy = new LazyGroup(datastore);
+        }
+        return lazy.register(ids, assembler);
+    }
+
+    /**
+     * Fetches the given ids immediately
+     *
+     * @param ids       the ids to fetch keyed by collection name
+     * @param assembler builds the reference value from the fetched entities
+     * @return the assembled value
+     */
+    @Nullable
+    public Object fetch(Map<String, List<Object>> ids, Function<Resolver, Object> assembler) {
+        Map<String, Set<Object>> wanted = new LinkedHashMap<>();
+        collect(wanted, ids);
+        return assembler.apply(resolver(load(datastore, wanted)));
+    }
+
+    private void resolve() {
+        lazy = null;
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Pending> resolving = pending;
+        pending = new ArrayList<>();
+
+        Map<String, Set<Object>> wanted = new LinkedHashMap<>();
+        for (Pending entry : resolving) {
+            collect(wanted, entry.ids);
+        }
+        Resolver resolver = resolver(load(datastore, wanted));
+        for (Pending entry : resolving) {
+            entry.model.getAccessor().set(entry.instance, entry.assembler.apply(resolver));
+        }
+    }
+
+    private static void collect(Map<String, Set<Object>> wanted, Map<String, List<Object>> ids) {
+        for (Entry<String, List<Object>> entry : ids.entrySet()) {
+            wanted.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>()).addAll(entry.getValue());
+        }
+    }
+
+    private static Map<String, Map<Object, Object>> load(MorphiaDatastore datastore, Map<String, Set<Object>> wanted) {
+        return datastore.getFanOut().mapValues(wanted, (collection, ids) -> {
+            Map<Object, Object> byId = new HashMap<>();
+            try (MongoCursor<?> cursor = datastore.find(collection).disableValidation()
+                    .filter(in("_id", new ArrayList<>(ids)))
+                    .iterator()) {
+                while (cursor.hasNext()) {
+                    Object entity = cursor.next();
+                    byId.put(datastore.getMapper().getId(entity), entity);
+                }
+            }
+            return byId;
+        });
+    }
+
+    private static Resolver resolver(Map<String, Map<Object, Object>> loaded) {
+        return (collection, id) -> {
+            Map<Object, Object> byId = loaded.get(collection);
+            return byId != null ? byId.get(id) : null;
+        };
+    }
+
+    /**
+     * Looks up fetched entities
+     */
+    @FunctionalInterface
+    public interface Resolver {
+        /**
+         * @param collection the collection name
+         * @param id         the id
+         * @return the fetched entity or null if it was not found
+         */
+        @Nullable
+        Object get(String collection, Object id);
+    }
+
+    private static final class Frame {
+        private final boolean deferrable;
+        private List<Pending> pending;
+
+        private Frame(boolean deferrable) {
+            this.deferrable = deferrable;
+        }
+    }
+
+    private static final class Pending {
+        private final PropertyModel model;
+        private final Map<String, List<Object>> ids;
+        private final Function<Resolver, Object> assembler;
+        private Object instance;
+
+        private Pending(PropertyModel model, Map<String, List<Object>> ids, Function<Resolver, Object> assembler) {
+            this.model = model;
+            this.ids = ids;
+            this.assembler = assembler;
+        }
+    }
+
+    private static final class LazyGroup {
+        private final MorphiaDatastore datastore;
+        private final Map<String, Set<Object>> unresolved = new LinkedHashMap<>();
+        private final Map<String, Map<Object, Object>> loaded = new HashMap<>();
+
+        private LazyGroup(MorphiaDatastore datastore) {
+            this.datastore = datastore;
+        }
+
+        private synchronized Supplier<Object> register(Map<String, List<Object>> ids, Function<Resolver, Object> assembler) {
+            collect(unresolved, ids);
+            return () -> resolve(assembler);
+        }
+
+        private synchronized Object resolve(Function<Resolver, Object> assembler) {
+            if (!unresolved.isEmpty()) {
+                load(datastore, unresolved).forEach((collection, byId) -> loaded.computeIfAbsent(collection, k -> new HashMap<>())
+                        .putAll(byId));
+                unresolved.clear();
+            }
+            return assembler.apply(resolver(loaded));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.morphia.mapping.codec.references;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,6 +16,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,6 +35,7 @@ import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.codec.references.ReferenceBatch.Resolver;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.QueryException;
@@ -47,13 +51,14 @@ import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.ByteCodeElement;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatcher.Junction;
 import net.bytebuddy.matcher.ElementMatchers;
 
@@ -70,12 +75,14 @@ import static java.lang.String.format;
 @MorphiaInternal
 public class ReferenceCodec extends BaseReferenceCodec<Object> implements PropertyHandler {
     private static final String FIELD_INVOCATION_HANDLER = "handler";
+    private static final MethodType PROXY_CONSTRUCTOR = MethodType.methodType(void.class, InvocationHandler.class);
 
     private final Reference annotation;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
     private final Mapper mapper;
     private final ClassLoader classLoader;
-    private final TypeCache<TypeCache.SimpleKey> typeCache = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+    @Nullable
+    private volatile MethodHandle proxyConstructor;
     private MorphiaDatastore datastore;
 
     /**
@@ -180,10 +187,6 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         return fetch(decode);
     }
 
-    private static TypeCache.SimpleKey getCacheKey(Class<?> type) {
-        return new TypeCache.SimpleKey(type, Arrays.asList(type.getInterfaces()));
-    }
-
     @Override
     @Nullable
     public Object encode(Object value) {
@@ -255,21 +258,36 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     }
 
     private <T> T createProxy(Supplier<Object> loader, List<Object> ids, Class<?> referenceType) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(loader, ids, referenceType);
-        PropertyModel propertyModel = getPropertyModel();
+        InvocationHandler referenceProxy = new ReferenceProxy(loader, ids, referenceType);
         try {
-            Class<?> type = propertyModel.getType();
-            Class<T> proxyClass = (Class<T>) typeCache.findOrInsert(classLoader, getCacheKey(type), this::makeProxy, typeCache);
-            final T proxy = proxyClass.getDeclaredConstructor().newInstance();
-            final Field field = proxyClass.getDeclaredField(FIELD_INVOCATION_HANDLER);
-            field.setAccessible(true);
-            field.set(proxy, referenceProxy);
-            return proxy;
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            return (T) (Object) getProxyConstructor().invokeExact(referenceProxy);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
 
+    /**
+     * The proxy class is generated once per codec, i.e. per reference property, and its constructor is bound to a handle so that creating
+     * a proxy is a single allocation rather than a reflective instantiation and field write.
+     */
+    private MethodHandle getProxyConstructor() throws ReflectiveOperationException {
+        MethodHandle constructor = proxyConstructor;
+        if (constructor == null) {
+            synchronized (this) {
+                constructor = proxyConstructor;
+                if (constructor == null) {
+                    constructor = MethodHandles.publicLookup()
+                            .findConstructor(makeProxy(), PROXY_CONSTRUCTOR)
+                            .asType(MethodType.methodType(Object.class, InvocationHandler.class));
+                    proxyConstructor = constructor;
+                }
+            }
+        }
+        return constructor;
+    }
+
     /**
      * Encodes a value
      *
@@ -296,15 +314,16 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         return idValue;
     }
 
-    private <T> Class<T> makeProxy() {
+    private Class<?> makeProxy() throws NoSuchMethodException {
         PropertyModel propertyModel = getPropertyModel();
         Class<?> type = propertyModel.getType();
         Builder<?> builder = new ByteBuddy()
-                .subclass(type)
+                .subclass(type, ConstructorStrategy.Default.NO_CONSTRUCTORS)
                 .implement(MorphiaProxy.class)
                 .name(format("%s$%s$$ReferenceProxy", propertyModel.getEntityModel().getName(), propertyModel.getName()));
 
         Junction<ByteCodeElement> matcher = ElementMatchers.isDeclaredBy(type);
+        Class<?> superclass = type.isInterface() ? Object.class : type;
         if (!type.isInterface()) {
             type = type.getSuperclass();
             while (type != null && !type.equals(Object.class)) {
@@ -313,10 +332,14 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
             }
         }
 
-        return (Class<T>) builder
+        return builder
                 .invokable(matcher.or(ElementMatchers.isDeclaredBy(MorphiaProxy.class)))
                 .intercept(InvocationHandlerAdapter.toField(FIELD_INVOCATION_HANDLER))
                 .defineField(FIELD_INVOCATION_HANDLER, InvocationHandler.class, Visibility.PRIVATE)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(InvocationHandler.class)
+                .intercept(MethodCall.invoke(superclass.getDeclaredConstructor())
+                        .andThen(FieldAccessor.ofField(FIELD_INVOCATION_HANDLER).setsArgumentAt(0)))
                 .make()
                 .load(classLoader, Default.WRAPPER)
                 .getLoaded();
@@ -328,6 +351,7 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         boolean ignoreMissing = annotation.ignoreMissing();
         EntityModel entityModel = getEntityModelForField();
         final Class<?> type = getPropertyModel().getType();
+        ReferenceBatch batch = currentBatch(entityModel);
 
         if (List.class.isAssignableFrom(type) || type.isArray()) {
             List<?> rawIds = (List<?>) value;
@@ -336,6 +360,10 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
                 return preDecoded;
             }
             List<Object> ids = stripDbRefs(rawIds);
+            if (batch != null) {
+                Function<Resolver, Object> assembler = resolver -> resolveCollection(rawIds, entityModel, ignoreMissing, resolver);
+                return batched(batch, lazy, groupByCollection(rawIds, entityModel), assembler, ids, entityModel);
+            }
             Supplier<Object> loader = () -> fetchCollection(rawIds, entityModel, ignoreMissing);
             return lazy ? createProxy(loader, ids, entityModel.getType()) : loader.get();
 
@@ -346,6 +374,11 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
                 return new LinkedHashSet<>(preDecoded);
             }
             List<Object> ids = stripDbRefs(rawIds);
+            if (batch != null) {
+                Function<Resolver, Object> assembler = resolver -> new LinkedHashSet<>(
+                        resolveCollection(rawIds, entityModel, ignoreMissing, resolver));
+                return batched(batch, lazy, groupByCollection(rawIds, entityModel), assembler, ids, entityModel);
+            }
             Supplier<Object> loader = () -> new LinkedHashSet<>(fetchCollection(rawIds, entityModel, ignoreMissing));
             return lazy ? createProxy(loader, ids, entityModel.getType()) : loader.get();
 
@@ -357,6 +390,11 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
                 ids.put(mapper.getConversions().convert(entry.getKey(), keyType), entry.getValue());
             }
             List<Object> idList = stripDbRefs(new ArrayList<>(ids.values()));
+            if (batch != null) {
+                Function<Resolver, Object> assembler = resolver -> resolveMap(ids, entityModel, ignoreMissing, resolver);
+                return batched(batch, lazy, groupByCollection(new ArrayList<>(ids.values()), entityModel), assembler, idList,
+                        entityModel);
+            }
             Supplier<Object> loader = () -> fetchMap(ids, entityModel);
             return lazy ? createProxy(loader, idList, entityModel.getType()) : loader.get();
 
@@ -367,11 +405,38 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
                 return id;
             }
             List<Object> ids = List.of(stripDbRef(id));
+            if (batch != null) {
+                String collection = collectionOf(id, entityModel);
+                Function<Resolver, Object> assembler = resolver -> {
+                    Object result = resolver.get(collection, stripDbRef(id));
+                    if (result == null && !ignoreMissing) {
+                        throw new ReferenceException(Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
+                    }
+                    return result;
+                };
+                return batched(batch, lazy, Map.of(collection, ids), assembler, ids, entityModel);
+            }
             Supplier<Object> loader = () -> fetchSingle(id, entityModel, ignoreMissing);
             return lazy ? createProxy(loader, ids, entityModel.getType()) : loader.get();
         }
     }
 
+    /**
+     * Hands the reference to the cursor's batch: lazy references share the batch's loader while eager references are deferred until
+     * the batch completes. If the reference can not be deferred, it is fetched immediately.
+     */
+    @Nullable
+    private Object batched(ReferenceBatch batch, boolean lazy, Map<String, List<Object>> grouped,
+            Function<Resolver, Object> assembler, List<Object> ids, EntityModel entityModel) {
+        if (lazy) {
+            return createProxy(batch.lazy(grouped, assembler), ids, entityModel.getType());
+        }
+        if (batch.defer(getPropertyModel(), grouped, assembler)) {
+            return null;
+        }
+        return batch.fetch(grouped, assembler);
+    }
+
     private Object fetchSingle(Object id, EntityModel entityModel, boolean ignoreMissing) {
         var query = id instanceof DBRef
                 ? datastore.find(mapper.getClassFromCollection(((DBRef) id).getCollectionName()))
@@ -395,9 +460,11 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         }
 
         Map<Object, Object> idMap = new HashMap<>();
-        for (Entry<String, List<Object>> entry : byCollection.entrySet()) {
-            idMap.putAll(queryCollection(entry.getKey(), extractFlatIds(entry.getValue()), entityModel, ignoreMissing));
-        }
+        datastore.getFanOut()
+                .mapValues(byCollection, (collection, collectionIds) -> queryCollection(collection, extractFlatIds(collectionIds),
+                        entityModel, ignoreMissing))
+                .values()
+                .forEach(idMap::putAll);
 
         return mapIdsToValues(ids, idMap).stream()
                 .filter(Objects::nonNull)
@@ -434,14 +501,72 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     }
 
     private Map<Object, Object> fetchMap(Map<Object, Object> ids, EntityModel entityModel) {
-        Map<Object, Object> values = new LinkedHashMap<>();
-        for (Entry<Object, Object> entry : ids.entrySet()) {
-            DBRef dbRef = entry.getValue() instanceof DBRef
-                    ? (DBRef) entry.getValue()
-                    : new DBRef(entityModel.collectionName(), entry.getValue());
+        return datastore.getFanOut().mapValues(ids, (key, value) -> {
+            DBRef dbRef = value instanceof DBRef
+                    ? (DBRef) value
+                    : new DBRef(entityModel.collectionName(), value);
             try (MongoCursor<Object> cursor = (MongoCursor<Object>) datastore.find(dbRef.getCollectionName())
                     .filter(eq("_id", dbRef.getId())).iterator()) {
-                values.put(entry.getKey(), cursor.next());
+                return cursor.next();
+            }
+        });
+    }
+
+    @Nullable
+    private ReferenceBatch currentBatch(EntityModel entityModel) {
+        ReferenceBatch batch = ReferenceBatch.current();
+        return batch != null && batch.getDatastore() == datastore && !entityModel.isInterface() ? batch : null;
+    }
+
+    private static String collectionOf(Object id, EntityModel entityModel) {
+        return id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.collectionName();
+    }
+
+    private static Map<String, List<Object>> groupByCollection(List<?> ids, EntityModel entityModel) {
+        Map<String, List<Object>> byCollection = new LinkedHashMap<>();
+        for (Object id : ids) {
+            if (id instanceof List) {
+                groupByCollection((List<?>) id, entityModel)
+                        .forEach((collection, nested) -> byCollection.computeIfAbsent(collection, k -> new ArrayList<>()).addAll(nested));
+            } else {
+                byCollection.computeIfAbsent(collectionOf(id, entityModel), k -> new ArrayList<>()).add(stripDbRef(id));
+            }
+        }
+        return byCollection;
+    }
+
+    private static List<Object> resolveCollection(List<?> ids, EntityModel entityModel, boolean ignoreMissing, Resolver resolver) {
+        return resolveIds(ids, entityModel, ignoreMissing, resolver).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Object> resolveIds(List<?> ids, EntityModel entityModel, boolean ignoreMissing, Resolver resolver) {
+        List<Object> values = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Object resolved;
+            if (id instanceof List) {
+                resolved = resolveIds((List<?>) id, entityModel, ignoreMissing, resolver);
+            } else {
+                resolved = resolver.get(collectionOf(id, entityModel), stripDbRef(id));
+                if (resolved == null && !ignoreMissing) {
+                    throw new ReferenceException(Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+                }
+            }
+            values.add(resolved);
+        }
+        return values;
+    }
+
+    private static Map<Object, Object> resolveMap(Map<Object, Object> ids, EntityModel entityModel, boolean ignoreMissing,
+            Resolver resolver) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        for (Entry<Object, Object> entry : ids.entrySet()) {
+            Object resolved = resolver.get(collectionOf(entry.getValue(), entityModel), stripDbRef(entry.getValue()));
+            if (resolved != null) {
+                values.put(entry.getKey(), resolved);
+            } else if (!ignoreMissing) {
+                throw new ReferenceException(Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
             }
         }
         return values;
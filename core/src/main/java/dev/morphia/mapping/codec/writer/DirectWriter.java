@@ -0,0 +1,148 @@
+package dev.morphia.mapping.codec.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BSONException;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonInvalidOperationException;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * Encodes straight to BSON bytes rather than building a {@link org.bson.Document} tree first.
+ * <p>
+ * {@link DocumentWriter} merges repeated field names (e.g. two filters on the same field or two {@code $set} operators) in to a single
+ * entry. Raw BSON can not do that so this writer tracks the names written at each level and reports the encoding as unusable if a name
+ * repeats. Callers are expected to fall back to {@link DocumentWriter} in that case.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class DirectWriter extends BsonBinaryWriter {
+    private final BasicOutputBuffer buffer;
+    // one entry per open document or array. arrays have no names to track and push null.
+    private final List<List<String>> levels = new ArrayList<>();
+    private boolean duplicated;
+
+    /**
+     * Creates a new writer
+     */
+    public DirectWriter() {
+        this(new BasicOutputBuffer());
+    }
+
+    private DirectWriter(BasicOutputBuffer buffer) {
+        super(buffer);
+        this.buffer = buffer;
+    }
+
+    /**
+     * Encodes a document by running the body between the start and end of the root document
+     *
+     * @param body the body to encode
+     * @return the encoded document or null if it needs to be encoded with a {@link DocumentWriter} instead
+     */
+    @Nullable
+    public static RawBsonDocument document(Consumer<DirectWriter> body) {
+        try (DirectWriter writer = new DirectWriter()) {
+            writer.writeStartDocument();
+            body.accept(writer);
+            writer.writeEndDocument();
+            return writer.toDocument();
+        } catch (BsonInvalidOperationException | BSONException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a value which encodes as a document
+     *
+     * @param codecRegistry the registry to use
+     * @param value         the value to encode
+     * @return the encoded document or null if it needs to be encoded with a {@link DocumentWriter} instead
+     */
+    @Nullable
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static RawBsonDocument encode(CodecRegistry codecRegistry, Object value) {
+        try (DirectWriter writer = new DirectWriter()) {
+            Codec codec = codecRegistry.get(value.getClass());
+            codec.encode(writer, value, EncoderContext.builder().build());
+            return writer.toDocument();
+        } catch (BsonInvalidOperationException | BSONException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the names written so far in the currently open document
+     */
+    public List<String> names() {
+        List<String> names = levels.isEmpty() ? null : levels.get(levels.size() - 1);
+        return names != null ? names : List.of();
+    }
+
+    /**
+     * @return true if a name was written more than once in the same document
+     */
+    public boolean isDuplicated() {
+        return duplicated;
+    }
+
+    /**
+     * @return the encoded document or null if a name was written more than once in the same document
+     */
+    @Nullable
+    public RawBsonDocument toDocument() {
+        if (duplicated || buffer.getPosition() == 0) {
+            return null;
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    @Override
+    public void writeName(String name) {
+        List<String> names = levels.isEmpty() ? null : levels.get(levels.size() - 1);
+        if (names != null) {
+            if (names.contains(name)) {
+                duplicated = true;
+            }
+            names.add(name);
+        }
+        super.writeName(name);
+    }
+
+    @Override
+    public void writeStartDocument() {
+        super.writeStartDocument();
+        levels.add(new ArrayList<>());
+    }
+
+    @Override
+    public void writeEndDocument() {
+        super.writeEndDocument();
+        levels.remove(levels.size() - 1);
+    }
+
+    @Override
+    public void writeStartArray() {
+        super.writeStartArray();
+        levels.add(null);
+    }
+
+    @Override
+    public void writeEndArray() {
+        super.writeEndArray();
+        levels.remove(levels.size() - 1);
+    }
+}
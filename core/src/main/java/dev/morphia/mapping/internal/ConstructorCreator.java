@@ -2,14 +2,9 @@ package dev.morphia.mapping.internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 import com.mongodb.lang.Nullable;
 
@@ -41,11 +36,12 @@ import static java.util.Arrays.stream;
  */
 @MorphiaInternal
 public class ConstructorCreator implements MorphiaInstanceCreator {
+    private final ConstructorPlan plan;
+    private final Conversions conversions;
     private final Object[] parameters;
-    private final Constructor<?> constructor;
-    private final EntityModel model;
-    private final Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
-    private final List<Consumer<Object>> setFunctions = new ArrayList<>();
+    private PropertyModel[] pendingModels;
+    private Object[] pendingValues;
+    private int pending;
     private Object instance;
 
     /**
@@ -53,31 +49,20 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
      * @param constructor the constructor to use
      * @param conversions the Conversions instance to use
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public ConstructorCreator(EntityModel model, Constructor<?> constructor, Conversions conversions) {
-        this.model = model;
-        this.constructor = constructor;
-        this.constructor.setAccessible(true);
-
-        final Parameter[] constructorParameters = this.constructor.getParameters();
-        this.parameters = new Object[constructorParameters.length];
-        for (int i = 0; i < constructorParameters.length; i++) {
-            final Parameter parameter = constructorParameters[i];
-            parameters[i] = zeroValue(parameter);
-            final int finalI = i;
-            String name = getParameterName(parameter);
-            if (name.matches("arg[0-9]+")) {
-                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
-            }
-            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
-                params[finalI] = conversions.convert(v, parameter.getType());
-                return null;
-            });
+        this(new ConstructorPlan(model, constructor), conversions);
+    }
 
-            if (old != null) {
-                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
-            }
-        }
+    /**
+     * @param plan        the precomputed constructor plan
+     * @param conversions the Conversions instance to use
+     * @since 3.0
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ConstructorCreator(ConstructorPlan plan, Conversions conversions) {
+        this.plan = plan;
+        this.conversions = conversions;
+        this.parameters = plan.newArguments();
     }
 
     @Nullable
@@ -114,10 +99,14 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
     public Object getInstance() {
         if (instance == null) {
             try {
-                instance = constructor.newInstance(parameters);
-                setFunctions.forEach(function -> function.accept(instance));
+                instance = plan.newInstance(parameters);
+                for (int i = 0; i < pending; i++) {
+                    pendingModels[i].setValue(instance, pendingValues[i]);
+                }
+                pendingModels = null;
+                pendingValues = null;
             } catch (Exception e) {
-                throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+                throw new MappingException(Sofia.cannotInstantiate(plan.getModel().getType().getName(), e.getMessage()), e);
             }
         }
         return instance;
@@ -164,24 +153,24 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
         if (instance != null) {
             model.setValue(instance, value);
         } else {
-            BiFunction<Object[], Object, Void> function = positions.get(model.getName());
-            if (function != null) {
-                function.apply(parameters, value);
+            int slot = plan.slot(model.getName());
+            if (slot != -1) {
+                parameters[slot] = conversions.convert(value, plan.getParameterType(slot));
             }
-            setFunctions.add((instance) -> {
-                model.setValue(instance, value);
-            });
+            defer(model, value);
         }
     }
 
-    @Nullable
-    private Object zeroValue(Parameter parameter) {
-        if (!parameter.getType().isPrimitive()) {
-            return null;
-        } else if (parameter.getType().equals(boolean.class)) {
-            return false;
-        } else {
-            return 0;
+    private void defer(PropertyModel model, @Nullable Object value) {
+        if (pendingModels == null) {
+            int size = Math.max(plan.getParameterCount(), 4);
+            pendingModels = new PropertyModel[size];
+            pendingValues = new Object[size];
+        } else if (pending == pendingModels.length) {
+            pendingModels = Arrays.copyOf(pendingModels, pending * 2);
+            pendingValues = Arrays.copyOf(pendingValues, pending * 2);
         }
+        pendingModels[pending] = model;
+        pendingValues[pending++] = value;
     }
 }
@@ -0,0 +1,136 @@
+package dev.morphia.mapping.internal;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import static dev.morphia.mapping.internal.ConstructorCreator.getParameterName;
+
+/**
+ * The precomputed, immutable description of how to invoke a constructor for an entity. The constructor's parameters are resolved once
+ * and each property name is mapped to its argument slot so that a {@link ConstructorCreator} only needs to allocate the argument array
+ * and the instance itself. Instances are safe to share across threads.
+ *
+ * @morphia.internal
+ * @hidden
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ConstructorPlan {
+    private final EntityModel model;
+    private final Constructor<?> constructor;
+    private final Class<?>[] parameterTypes;
+    private final Object[] defaults;
+    private final Map<String, Integer> slots;
+
+    /**
+     * @param model       the model
+     * @param constructor the constructor to use
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ConstructorPlan(EntityModel model, Constructor<?> constructor) {
+        this.model = model;
+        this.constructor = constructor;
+        this.constructor.setAccessible(true);
+
+        final Parameter[] parameters = constructor.getParameters();
+        parameterTypes = new Class<?>[parameters.length];
+        defaults = new Object[parameters.length];
+        slots = new HashMap<>();
+        for (int i = 0; i < parameters.length; i++) {
+            final Parameter parameter = parameters[i];
+            parameterTypes[i] = parameter.getType();
+            defaults[i] = zeroValue(parameter.getType());
+            String name = getParameterName(parameter);
+            if (isSynthesizedName(name)) {
+                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+            }
+            if (slots.put(name, i) != null) {
+                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
+            }
+        }
+    }
+
+    /**
+     * @return the model this plan was built for
+     */
+    public EntityModel getModel() {
+        return model;
+    }
+
+    /**
+     * @return the number of constructor parameters
+     */
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    /**
+     * @param slot the argument slot
+     * @return the declared type of the parameter at that slot
+     */
+    public Class<?> getParameterType(int slot) {
+        return parameterTypes[slot];
+    }
+
+    /**
+     * @param propertyName the property name
+     * @return the argument slot for the property or -1 if the property is not a constructor parameter
+     */
+    public int slot(String propertyName) {
+        Integer slot = slots.get(propertyName);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * @return a new argument array populated with the zero values for each parameter
+     */
+    public Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /**
+     * Invokes the constructor
+     *
+     * @param arguments the constructor arguments
+     * @return the new instance
+     * @throws ReflectiveOperationException if the constructor fails
+     */
+    public Object newInstance(Object[] arguments) throws ReflectiveOperationException {
+        return constructor.newInstance(arguments);
+    }
+
+    private static boolean isSynthesizedName(String name) {
+        if (name.length() <= 3 || !name.startsWith("arg")) {
+            return false;
+        }
+        for (int i = 3; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Object zeroValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type.equals(boolean.class)) {
+            return false;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.DecodeScope;
 import dev.morphia.sofia.Sofia;
 
 import org.bson.BsonString;
@@ -53,6 +54,8 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
 
     private String hintString;
 
+    private boolean lazy;
+
     private int limit;
 
     private Document max;
@@ -69,6 +72,8 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
 
     private Projection projection;
 
+    private int readAhead;
+
     private String queryLogId;
 
     private ReadConcern readConcern;
@@ -114,10 +119,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         if (isLogQuery()) {
             logQuery(); //  reset to a new ID
         }
-        if (projection != null) {
-            projection.disableValidation(disableValidation);
-            iterable.projection(projection.map(mapper, type));
-        }
+        iterable.projection(mappedProjection(mapper, type));
 
         iterable.allowDiskUse(allowDiskUse);
         iterable.batchSize(batchSize);
@@ -139,15 +141,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         iterable.showRecordId(showRecordId);
         iterable.skip(skip);
         if (sort != null) {
-            Document mapped = new Document();
-            EntityModel model = mapper.tryGetEntityModel(type).orElse(null);
-
-            for (Entry<String, Object> entry : sort.entrySet()) {
-                Object value = entry.getValue();
-                boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
-                mapped.put(new PathTarget(mapper, model, entry.getKey(), model != null && !metaScore).translatedPath(), value);
-            }
-            iterable.sort(mapped);
+            iterable.sort(mappedSort(mapper, type));
         }
         iterable.let(variables);
         if (timeoutMode != null) {
@@ -263,6 +257,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
         this.collection = original.collection;
+        this.lazy = original.lazy;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
         this.maxAwaitTimeMS = original.maxAwaitTimeMS;
@@ -283,6 +278,9 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         this.readPreference = original.readPreference;
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
+        this.readAhead = original.readAhead;
+        this.timeoutMode = original.timeoutMode;
+        this.variables = original.variables;
 
         return this;
     }
@@ -317,7 +315,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     public int hashCode() {
         return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
                 partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
-                queryLogId);
+                queryLogId, lazy, readAhead);
     }
 
     /**
@@ -342,7 +340,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 && Objects.equals(comment, that.comment) && Objects.equals(hint, that.hint) && Objects.equals(hintString, that.hintString)
                 && Objects.equals(max, that.max) && Objects.equals(min, that.min) && Objects.equals(readConcern, that.readConcern)
                 && Objects.equals(readPreference, that.readPreference) && Objects.equals(projection, that.projection)
-                && Objects.equals(queryLogId, that.queryLogId);
+                && Objects.equals(queryLogId, that.queryLogId) && lazy == that.lazy && readAhead == that.readAhead;
     }
 
     /**
@@ -373,6 +371,8 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 .add("readPreference=" + readPreference)
                 .add("queryLogId='" + queryLogId + "'")
                 .add("projection=" + projection)
+                .add("lazy=" + lazy)
+                .add("readAhead=" + readAhead)
                 .toString();
     }
 
@@ -425,6 +425,24 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return this;
     }
 
+    /**
+     * Returns entities which are decoded on demand. Each result keeps its raw document and carries only its ID until the first call to one
+     * of its methods which then decodes the remaining properties. This saves decoding work for queries which read many documents but only
+     * look at a few of them. Fields read directly rather than through a method are not populated until the entity has been decoded.
+     * <p>
+     * Types which can not be subclassed, e.g. final classes, records, or types without a no-argument constructor, and types with
+     * lifecycle events are decoded eagerly regardless.
+     *
+     * @param lazy true if entities should be decoded lazily
+     * @return this
+     * @see dev.morphia.annotations.Entity#lazy()
+     * @since 3.0
+     */
+    public FindOptions lazy(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
     /**
      * Sets the limit
      *
@@ -550,6 +568,290 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return readPreference;
     }
 
+    /**
+     * @return true to allow the server to write temporary files or null to use the server's default
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Boolean allowDiskUse() {
+        return allowDiskUse;
+    }
+
+    /**
+     * @return the batch size
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the collation or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Collation collation() {
+        return collation;
+    }
+
+    /**
+     * @return the comment or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public BsonValue comment() {
+        return comment;
+    }
+
+    /**
+     * @return the cursor type or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public CursorType cursorType() {
+        return cursorType;
+    }
+
+    /**
+     * @return the index hint or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document hint() {
+        return hint;
+    }
+
+    /**
+     * @return the name of the index to hint or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public String hintString() {
+        return hintString;
+    }
+
+    /**
+     * @return the variables or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document let() {
+        return variables;
+    }
+
+    /**
+     * @return the limit
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * @return the exclusive upper bound for a specific index or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document max() {
+        return max;
+    }
+
+    /**
+     * @param timeUnit the unit to report in
+     * @return the maximum time to wait for new documents on a tailable cursor
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public long maxAwaitTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param timeUnit the unit to report in
+     * @return the maximum execution time
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public long maxTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxTimeMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the inclusive lower bound for a specific index or null
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document min() {
+        return min;
+    }
+
+    /**
+     * @return true if the server should not time out idle cursors
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean noCursorTimeout() {
+        return noCursorTimeout;
+    }
+
+    /**
+     * @return true if partial results from sharded clusters are acceptable
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean partial() {
+        return partial;
+    }
+
+    /**
+     * @return true if only the index keys should be returned
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean returnKey() {
+        return returnKey;
+    }
+
+    /**
+     * @return true if the record id should be added to each result
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean showRecordId() {
+        return showRecordId;
+    }
+
+    /**
+     * @return the number of results to skip
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int skip() {
+        return skip;
+    }
+
+    /**
+     * @param mapper the mapper to use
+     * @param type   the result type
+     * @return the projection with its paths mapped to the stored field names or null if there is no projection
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document mappedProjection(Mapper mapper, Class<?> type) {
+        if (projection == null) {
+            return null;
+        }
+        projection.disableValidation(disableValidation);
+        return projection.map(mapper, type);
+    }
+
+    /**
+     * @param mapper the mapper to use
+     * @param type   the result type
+     * @return the sort with its paths mapped to the stored field names or null if there is no sort
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document mappedSort(Mapper mapper, Class<?> type) {
+        if (sort == null) {
+            return null;
+        }
+        Document mapped = new Document();
+        EntityModel model = mapper.tryGetEntityModel(type).orElse(null);
+
+        for (Entry<String, Object> entry : sort.entrySet()) {
+            Object value = entry.getValue();
+            boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
+            mapped.put(new PathTarget(mapper, model, entry.getKey(), model != null && !metaScore).translatedPath(), value);
+        }
+        return mapped;
+    }
+
+    /**
+     * @return the number of results to read ahead or 0 if results are only read as they are requested
+     * @hidden
+     * @morphia.internal
+     * @see #readAhead(int)
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int readAhead() {
+        return readAhead;
+    }
+
+    /**
+     * Reads and decodes results on a background thread while the caller consumes the results already read. Without this, once a batch
+     * has been consumed the cursor blocks on fetching the next one before any of it can be decoded. With it, the next batch is fetched
+     * and decoded, along with any references it carries, while the current one is still being consumed.
+     * <p>
+     * At most {@code size} results are buffered ahead of the caller. Once the buffer is full, reading pauses until the caller catches
+     * up. If the caller then takes no result for ten minutes, the server's default timeout for idle cursors, the cursor is treated as
+     * abandoned: reading stops and the cursor is closed. Queries run in a session are always read on the calling thread since a session can
+     * not be used by more than one thread at once.
+     *
+     * @param size the number of results to buffer ahead of the caller or 0 to disable reading ahead
+     * @return this
+     * @see MorphiaCursor#getReadAheadStatistics()
+     * @since 3.0
+     */
+    public FindOptions readAhead(int size) {
+        this.readAhead = Math.max(size, 0);
+        return this;
+    }
+
     @Override
     public FindOptions readConcern(ReadConcern readConcern) {
         this.readConcern = readConcern;
@@ -607,6 +909,19 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return sort(meta.toDatabase());
     }
 
+    /**
+     * @return the scope to decode results in or null if results should be decoded eagerly
+     * @hidden
+     * @morphia.internal
+     * @see #lazy(boolean)
+     * @since 3.0
+     */
+    @MorphiaInternal
+    @Nullable
+    public DecodeScope decodeScope() {
+        return DecodeScope.of(lazy);
+    }
+
     /**
      * @return the projection
      * @hidden
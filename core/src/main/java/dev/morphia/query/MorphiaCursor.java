@@ -2,13 +2,19 @@ package dev.morphia.query;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
 
+import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.DecodeScope;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.transactions.MorphiaSession;
 
 /**
  * @param <T> the original type being iterated
@@ -16,6 +22,12 @@ import dev.morphia.annotations.internal.MorphiaInternal;
  */
 public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
     private final MongoCursor<T> wrapped;
+    @Nullable
+    private final ReferenceBatch references;
+    @Nullable
+    private final DecodeScope scope;
+    @Nullable
+    private final ReadAheadCursor<T> readAhead;
 
     /**
      * Creates a MorphiaCursor
@@ -27,6 +39,74 @@ public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
     @MorphiaInternal
     public MorphiaCursor(MongoCursor<T> cursor) {
         wrapped = cursor;
+        references = null;
+        scope = null;
+        readAhead = null;
+    }
+
+    /**
+     * Creates a MorphiaCursor which resolves the references found in each batch of results with one query per referenced collection.
+     * The cursor is opened inside the batching window since the driver decodes the first batch when the cursor is created.
+     *
+     * @param datastore the datastore to use when fetching references
+     * @param cursor    the supplier of the Iterator to use
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaCursor(MorphiaDatastore datastore, Supplier<MongoCursor<T>> cursor) {
+        this(datastore, null, cursor);
+    }
+
+    /**
+     * Creates a MorphiaCursor which resolves the references found in each batch of results with one query per referenced collection
+     * and, if a scope is given, decodes each result as the scope requests, e.g. as a lazily decoded entity.
+     *
+     * @param datastore the datastore to use when fetching references
+     * @param scope     the scope to decode in or null to decode each result eagerly
+     * @param cursor    the supplier of the Iterator to use
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaCursor(MorphiaDatastore datastore, @Nullable DecodeScope scope, Supplier<MongoCursor<T>> cursor) {
+        this(datastore, scope, 0, cursor);
+    }
+
+    /**
+     * Creates a MorphiaCursor which, if asked to, reads ahead of the caller on a background thread. The first batch is still read on the
+     * calling thread as the cursor is opened. Since the batching window is held per thread, each later result is read and has its
+     * references resolved on the background thread and the calling thread only takes results from the buffer.
+     *
+     * @param datastore the datastore to use when fetching references
+     * @param scope     the scope to decode in or null to decode each result eagerly and in full
+     * @param readAhead the number of results to buffer ahead of the caller or 0 to read each result as it is requested
+     * @param cursor    the supplier of the Iterator to use
+     * @hidden
+     * @morphia.internal
+     * @see FindOptions#readAhead(int)
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaCursor(MorphiaDatastore datastore, @Nullable DecodeScope scope, int readAhead, Supplier<MongoCursor<T>> cursor) {
+        ReferenceBatch batch = new ReferenceBatch(datastore);
+        MongoCursor<T> opened = within(batch, scope, cursor);
+        // a session can not be used by more than one thread at once so its results are read on the calling thread
+        if (readAhead > 0 && !(datastore instanceof MorphiaSession)) {
+            references = null;
+            this.scope = null;
+            ReadAheadCursor<T> reading = new ReadAheadCursor<>(opened, readAhead,
+                    () -> within(batch, scope, () -> opened.hasNext() ? opened.next() : null));
+            this.readAhead = reading;
+            wrapped = reading;
+        } else {
+            references = batch;
+            this.scope = scope;
+            this.readAhead = null;
+            wrapped = opened;
+        }
     }
 
     /**
@@ -38,13 +118,13 @@ public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
 
     @Override
     public boolean hasNext() {
-        return wrapped.hasNext();
+        return within(wrapped::hasNext);
     }
 
     @Override
     @NonNull
     public T next() {
-        return wrapped.next();
+        return within(wrapped::next);
     }
 
     @Override
@@ -54,7 +134,7 @@ public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
 
     @Override
     public T tryNext() {
-        return wrapped.tryNext();
+        return within(wrapped::tryNext);
     }
 
     @Override
@@ -73,6 +153,27 @@ public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
         wrapped.remove();
     }
 
+    /**
+     * @return the statistics of reading ahead or null if this cursor does not read ahead
+     * @see FindOptions#readAhead(int)
+     * @since 3.0
+     */
+    @Nullable
+    public ReadAheadStatistics getReadAheadStatistics() {
+        return readAhead != null ? readAhead.statistics() : null;
+    }
+
+    private <R> R within(Supplier<R> action) {
+        return within(references, scope, action);
+    }
+
+    private static <R> R within(@Nullable ReferenceBatch references, @Nullable DecodeScope scope, Supplier<R> action) {
+        if (references == null) {
+            return action.get();
+        }
+        return references.within(scope == null ? action : () -> scope.within(action));
+    }
+
     /**
      * Converts this cursor to a List. Care should be taken on large datasets as OutOfMemoryErrors are a risk.
      *
@@ -81,7 +182,7 @@ public class MorphiaCursor<T> implements AutoCloseable, MongoCursor<T> {
     public List<T> toList() {
         final List<T> results = new ArrayList<>();
         try (wrapped) {
-            while (wrapped.hasNext()) {
+            while (hasNext()) {
                 results.add(next());
             }
         }
@@ -28,14 +28,19 @@ import dev.morphia.aggregation.stages.Stage;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.writer.DirectWriter;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.filters.Filter;
+import dev.morphia.query.filters.Filters;
 import dev.morphia.query.updates.UpdateOperator;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +71,8 @@ public class MorphiaQuery<T> implements Query<T> {
     private ValidationException invalid;
 
     private boolean validate = true;
+    @Nullable
+    private BsonDocument bound;
     private FindOptions lastOptions;
 
     /**
@@ -90,6 +97,21 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Creates a query from the bound template of a prepared query
+     *
+     * @param datastore the datastore
+     * @param type      the type to query against
+     * @param options   the options to apply
+     * @param bound     the bound query. it is handed to the driver as is so must not be changed once bound.
+     * @param validate  true if the prepared query was validating
+     */
+    MorphiaQuery(MorphiaDatastore datastore, Class<T> type, FindOptions options, BsonDocument bound, boolean validate) {
+        this(datastore, type, options, null);
+        this.validate = validate;
+        this.bound = bound;
+    }
+
     @Override
     public Query<T> filter(Filter... additional) {
         for (Filter filter : additional) {
@@ -108,16 +130,16 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
-        return datastore.operations().countDocuments(collection, getQueryDocument(), options);
+        return datastore.operations().countDocuments(collection, getQueryBson(), options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
         if (options.multi()) {
-            return datastore.operations().deleteMany(collection, getQueryDocument(), options);
+            return datastore.operations().deleteMany(collection, getQueryBson(), options);
         } else {
-            return datastore.operations().deleteOne(collection, getQueryDocument(), options);
+            return datastore.operations().deleteOne(collection, getQueryBson(), options);
         }
     }
 
@@ -169,7 +191,12 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, collection);
-        return datastore.operations().findOneAndDelete(mongoCollection, getQueryDocument(), options);
+        return datastore.operations().findOneAndDelete(mongoCollection, getQueryBson(), options);
+    }
+
+    @Override
+    public PreparedQuery<T> prepare() {
+        return new PreparedQuery<>(datastore, type, options, validate, this::getQueryDocument);
     }
 
     @Override
@@ -190,7 +217,7 @@ public class MorphiaQuery<T> implements Query<T> {
         Operations value = new Operations(datastore, entityModel, coalesce(first, updates), validate);
 
         return datastore.operations().findOneAndUpdate(datastore.configureCollection(options, collection),
-                toDocument(), value.toDocument(datastore), options);
+                getQueryBson(), value.toBson(datastore), options);
     }
 
     @MorphiaInternal
@@ -203,8 +230,54 @@ public class MorphiaQuery<T> implements Query<T> {
         return iterator(options);
     }
 
-    private MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, collection));
+    MorphiaCursor<T> iterator(FindOptions options) {
+        return new MorphiaCursor<>(datastore, options.decodeScope(), options.readAhead(), () -> prepareCursor(options, collection));
+    }
+
+    @Override
+    public Stream<T> parallelStream(int partitions) {
+        PartitionSpliterator<T> spliterator = PartitionSpliterator.partition(datastore, this,
+                datastore.configureCollection(options, collection), getQueryBson(), options, partitions);
+        return StreamSupport.stream(spliterator, true)
+                .onClose(spliterator::close);
+    }
+
+    @Override
+    public Pages<T> pages(int pageSize, Sort... sorts) {
+        return new Pages<>(datastore, this, options, pageSize, sorts);
+    }
+
+    /**
+     * Copies this query adding a filter which must hold along with the filters of this query
+     *
+     * @param additional the filter to add. may be null.
+     * @return the copy
+     */
+    MorphiaQuery<T> copy(@Nullable Filter additional) {
+        if (additional != null && (seedQuery != null || bound != null)) {
+            // a seed document is merged with the filters field by field so both are combined explicitly rather than risk a collision
+            MorphiaQuery<T> added = new MorphiaQuery<>(datastore, type, options, null);
+            added.validate = validate;
+            added.filter(additional);
+            BsonDocument combined = new Document("$and", List.of(getQueryDocument(), added.getQueryDocument()))
+                    .toBsonDocument(Document.class, datastore.getCodecRegistry());
+            return new MorphiaQuery<>(datastore, type, options, combined, validate);
+        }
+        MorphiaQuery<T> copy = new MorphiaQuery<>(datastore, type, options, seedQuery);
+        copy.validate = validate;
+        copy.bound = bound;
+        copy.invalid = invalid;
+        if (additional == null) {
+            copy.filters.addAll(filters);
+        } else if (filters.isEmpty()) {
+            copy.filter(additional);
+        } else {
+            // combined in to one filter so that the added filter can not collide with a top level operator of this query
+            List<Filter> combined = new ArrayList<>(filters);
+            combined.add(additional);
+            copy.filter(Filters.and(combined.toArray(new Filter[0])));
+        }
+        return copy;
     }
 
     @Override
@@ -233,13 +306,17 @@ public class MorphiaQuery<T> implements Query<T> {
         Class<T> entityClass = getEntityClass();
         EntityModel entityModel = !entityClass.equals(Document.class) ? mapper.getEntityModel(entityClass) : null;
         Operations operations = new Operations(datastore, entityModel, asList(updates), isValidate());
-        Document updateOperations = operations.toDocument(datastore);
+        Bson updateOperations = operations.toBson(datastore);
 
-        final Document queryObject = toDocument();
+        final Bson queryObject;
         if (options.isUpsert()) {
+            Document query = toDocument();
             if (entityModel.useDiscriminator()) {
-                queryObject.put(entityModel.discriminatorKey(), entityModel.discriminator());
+                query.put(entityModel.discriminatorKey(), entityModel.discriminator());
             }
+            queryObject = query;
+        } else {
+            queryObject = getQueryBson();
         }
 
         MongoCollection<T> mongoCollection = options.prepare(collection, datastore.getDatabase());
@@ -262,7 +339,7 @@ public class MorphiaQuery<T> implements Query<T> {
                     return writer.getDocument();
                 })
                 .collect(toList());
-        final Document queryObject = toDocument();
+        final Bson queryObject = getQueryBson();
 
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, datastore.configureCollection(options, collection));
         return options.multi()
@@ -303,7 +380,7 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @NonNull
     private <E> FindIterable<E> iterable(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        final Bson query = getQueryBson();
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -336,12 +413,62 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Encodes the filters straight to BSON. Queries the direct path can not represent, e.g. repeated field names which
+     * {@link DocumentWriter} would merge, fall back to {@link #getQueryDocument()}.
+     */
+    private Bson getQueryBson() {
+        if (invalid != null) {
+            throw invalid;
+        }
+        if (bound != null && filters.isEmpty()) {
+            // already encoded with its discriminators when the query was prepared
+            return bound;
+        }
+        if (seedQuery != null || bound != null) {
+            return getQueryDocument();
+        }
+        try {
+            RawBsonDocument query = DirectWriter.document(writer -> {
+                EncoderContext context = EncoderContext.builder().build();
+                for (Filter filter : filters) {
+                    Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                    codec.encode(writer, filter, context);
+                }
+                if (mapper.isMappable(getEntityClass())) {
+                    Document probe = new Document();
+                    writer.names().forEach(name -> probe.put(name, null));
+                    EntityModel model = mapper.getEntityModel(getEntityClass());
+                    mapper.updateQueryWithDiscriminators(model, probe);
+                    Object discriminator = probe.get(model.discriminatorKey());
+                    if (discriminator != null) {
+                        writer.writeName(model.discriminatorKey());
+                        Codec codec = datastore.getCodecRegistry().get(discriminator.getClass());
+                        EncoderContext.builder().build().encodeWithChildContext(codec, writer, discriminator);
+                    }
+                }
+            });
+            return query != null ? query : getQueryDocument();
+        } catch (ValidationException e) {
+            invalid = e;
+            throw e;
+        }
+    }
+
     private Document getQueryDocument() {
         if (invalid != null) {
             throw invalid;
         }
+        Document seed = seedQuery;
+        if (bound != null) {
+            // copied since the bound query shares its values with the prepared template
+            seed = new Document(bound.clone());
+            if (filters.isEmpty()) {
+                return seed;
+            }
+        }
         try {
-            DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seedQuery);
+            DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seed);
             document(writer, () -> {
                 EncoderContext context = EncoderContext.builder().build();
                 for (Filter filter : filters) {
@@ -2,6 +2,7 @@ package dev.morphia.query;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 
 import com.mongodb.lang.Nullable;
 
@@ -9,12 +10,17 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.writer.DirectWriter;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.updates.UpdateOperator;
 
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 
 import static dev.morphia.query.updates.UpdateOperators.inc;
 
@@ -100,6 +106,53 @@ public class Operations {
         return document;
     }
 
+    /**
+     * Encodes the updates straight to BSON. Operators which can not be encoded directly, or which would overlap when merged, fall back to
+     * {@link #toDocument(MorphiaDatastore)}.
+     *
+     * @param datastore the datastore to use for encoding
+     * @return the update document
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public Bson toBson(MorphiaDatastore datastore) {
+        versionUpdate(model);
+        List<RawBsonDocument> encoded = new ArrayList<>();
+        for (UpdateOperator update : updates) {
+            RawBsonDocument document = DirectWriter.encode(datastore.getCodecRegistry(), update);
+            if (document == null) {
+                return toDocument(datastore);
+            }
+            encoded.add(document);
+        }
+        if (encoded.size() == 1) {
+            return encoded.get(0);
+        }
+        var merged = new BsonDocument();
+        for (RawBsonDocument document : encoded) {
+            for (Entry<String, BsonValue> entry : document.entrySet()) {
+                BsonValue existing = merged.get(entry.getKey());
+                if (existing == null) {
+                    merged.put(entry.getKey(), entry.getValue());
+                } else if (existing.isDocument() && entry.getValue().isDocument()) {
+                    BsonDocument combined = new BsonDocument();
+                    combined.putAll(existing.asDocument());
+                    for (Entry<String, BsonValue> field : entry.getValue().asDocument().entrySet()) {
+                        if (combined.containsKey(field.getKey())) {
+                            return toDocument(datastore);
+                        }
+                        combined.put(field.getKey(), field.getValue());
+                    }
+                    merged.put(entry.getKey(), combined);
+                } else {
+                    return toDocument(datastore);
+                }
+            }
+        }
+        return merged;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private Document encode(MorphiaDatastore datastore, UpdateOperator update) {
         var codecRegistry = datastore.getCodecRegistry();
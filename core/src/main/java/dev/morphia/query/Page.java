@@ -0,0 +1,49 @@
+package dev.morphia.query;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * A page of results read through {@link Pages}.
+ *
+ * @param <T> the entity type
+ * @see Query#pages(int, Sort...)
+ * @since 3.0
+ */
+public final class Page<T> {
+    private final List<T> items;
+    @Nullable
+    private final String next;
+
+    Page(List<T> items, @Nullable String next) {
+        this.items = Collections.unmodifiableList(items);
+        this.next = next;
+    }
+
+    /**
+     * @return the results on this page
+     */
+    public List<T> items() {
+        return items;
+    }
+
+    /**
+     * Returns the token to pass to {@link Pages#after(String)} to read the next page. The token is opaque but carries the sort values of
+     * the last result on this page. It remains valid for as long as the sort of the pages does not change.
+     *
+     * @return the token for the next page or null if this is the last page
+     */
+    @Nullable
+    public String next() {
+        return next;
+    }
+
+    /**
+     * @return true if there is another page after this one
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,283 @@
+package dev.morphia.query;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.IndexHelper;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonSerializationException;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import static dev.morphia.query.filters.Filters.and;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gt;
+import static dev.morphia.query.filters.Filters.lt;
+import static dev.morphia.query.filters.Filters.or;
+
+/**
+ * Reads the results of a query a page at a time using keyset pagination. Rather than skipping the results of the earlier pages, each
+ * page after the first only matches results which sort after the last result of the page before it. With an index supporting the sort
+ * every page costs the same to read no matter how deep in to the results it is.
+ * <p>
+ * The results are ordered by the given sorts followed by {@code _id} so that their order is total. The sort values are read from the
+ * last result of each page so any projection of the query must include the sorted properties. Documents missing a sorted property or
+ * holding {@code null} for it will not be paged correctly.
+ *
+ * @param <T> the entity type
+ * @see Query#pages(int, Sort...)
+ * @since 3.0
+ */
+public final class Pages<T> implements Iterable<Page<T>> {
+    private static final String ID = "_id";
+
+    private final MorphiaDatastore datastore;
+    private final MorphiaQuery<T> query;
+    private final FindOptions options;
+    private final int pageSize;
+    @Nullable
+    private final EntityModel model;
+    private final List<String> paths = new ArrayList<>();
+    private final List<String> mappedPaths = new ArrayList<>();
+    private final List<Integer> orders = new ArrayList<>();
+    private final Document sort = new Document();
+
+    Pages(MorphiaDatastore datastore, MorphiaQuery<T> query, FindOptions options, int pageSize, Sort... sorts) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(pageSize));
+        }
+        this.datastore = datastore;
+        this.query = query;
+        this.pageSize = pageSize;
+        Mapper mapper = datastore.getMapper();
+        model = mapper.tryGetEntityModel(query.getEntityClass()).orElse(null);
+
+        for (Sort each : sorts) {
+            add(each.getField(), each.getOrder());
+        }
+        if (!mappedPaths.contains(ID)) {
+            add(ID, 1);
+        }
+        this.options = options.copy()
+                .sort(new Document(sort))
+                .skip(0)
+                .limit(pageSize + 1);
+        if (model != null) {
+            checkIndexes(model);
+        }
+    }
+
+    /**
+     * @return the first page
+     */
+    public Page<T> first() {
+        return page(null);
+    }
+
+    /**
+     * Reads the page following the page which issued the token
+     *
+     * @param token the token of the previous page
+     * @return the next page
+     * @throws IllegalArgumentException if the token was not issued for pages of this type and sort
+     * @see Page#next()
+     */
+    public Page<T> after(String token) {
+        return page(decode(token));
+    }
+
+    /**
+     * Iterates over every page starting from the first one. Each page is read only once the iterator reaches it.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Page<T>> iterator() {
+        return new Iterator<>() {
+            @Nullable
+            private Page<T> previous;
+
+            @Override
+            public boolean hasNext() {
+                return previous == null || previous.hasNext();
+            }
+
+            @Override
+            public Page<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                previous = previous == null ? first() : after(previous.next());
+                return previous;
+            }
+        };
+    }
+
+    private void add(String path, int order) {
+        if (path.equals(Sort.NATURAL)) {
+            throw new IllegalArgumentException(Sofia.invalidPageSort(path));
+        }
+        String mapped = new PathTarget(datastore.getMapper(), model, path, query.isValidate()).translatedPath();
+        if (!mappedPaths.contains(mapped)) {
+            paths.add(path);
+            mappedPaths.add(mapped);
+            orders.add(order);
+            sort.append(path, order);
+        }
+    }
+
+    private Page<T> page(@Nullable List<Object> last) {
+        MorphiaQuery<T> page = query.copy(last != null ? following(last) : null);
+        List<T> items = new ArrayList<>(pageSize + 1);
+        try (MorphiaCursor<T> cursor = page.iterator(options.copy())) {
+            while (cursor.hasNext()) {
+                items.add(cursor.next());
+            }
+        }
+        if (items.size() <= pageSize) {
+            return new Page<>(items, null);
+        }
+        items.remove(pageSize);
+        return new Page<>(items, encode(items.get(pageSize - 1)));
+    }
+
+    /**
+     * Matches the results sorting after the given values, e.g. for a sort on {@code a} and {@code _id}:
+     * {@code a > last.a || (a == last.a && _id > last._id)}
+     */
+    private Filter following(List<Object> last) {
+        Filter[] branches = new Filter[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            Filter[] terms = new Filter[i + 1];
+            for (int j = 0; j < i; j++) {
+                terms[j] = eq(paths.get(j), last.get(j));
+            }
+            terms[i] = orders.get(i) < 0 ? lt(paths.get(i), last.get(i)) : gt(paths.get(i), last.get(i));
+            branches[i] = terms.length == 1 ? terms[0] : and(terms);
+        }
+        return branches.length == 1 ? branches[0] : or(branches);
+    }
+
+    private String encode(T entity) {
+        List<Object> values = new ArrayList<>();
+        for (String path : mappedPaths) {
+            values.add(value(entity, path));
+        }
+        RawBsonDocument token = new RawBsonDocument(new Document("s", sort).append("v", values), documentCodec());
+        ByteBuffer buffer = token.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private List<Object> decode(String token) {
+        try {
+            Document document = new RawBsonDocument(Base64.getUrlDecoder().decode(token)).decode(documentCodec());
+            List<Object> values = document.getList("v", Object.class);
+            if (sort.equals(document.get("s")) && values != null && values.size() == paths.size()) {
+                return values;
+            }
+        } catch (IllegalArgumentException | BsonSerializationException | ClassCastException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException(Sofia.invalidPageToken(query.getEntityClass().getName(), sort.toJson()));
+    }
+
+    @Nullable
+    private Object value(Object entity, String mappedPath) {
+        Object current = entity;
+        String[] names = mappedPath.split("\\.");
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            Class<?> type = current.getClass();
+            if (current instanceof LazyEntity.Proxy proxy) {
+                // lazily decoded entities are generated subclasses of the mapped type and are decoded in full before being read
+                proxy.unwrap();
+                type = type.getSuperclass();
+            } else if (current instanceof MorphiaProxy proxy) {
+                current = proxy.unwrap();
+                type = current != null ? current.getClass() : type;
+            }
+            if (current == null) {
+                return null;
+            }
+            if (current instanceof Map<?, ?> map) {
+                current = map.get(name);
+            } else {
+                EntityModel currentModel = i == 0 && model != null
+                        ? model
+                        : datastore.getMapper().tryGetEntityModel(type).orElse(null);
+                PropertyModel property = currentModel != null ? currentModel.getProperty(name) : null;
+                if (property == null) {
+                    throw new IllegalArgumentException(Sofia.invalidPageSort(mappedPath));
+                }
+                current = property.getValue(current);
+            }
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private void checkIndexes(EntityModel entityModel) {
+        if (mappedPaths.size() == 1) {
+            // sorting only by _id which is always indexed
+            return;
+        }
+        for (IndexModel index : new IndexHelper(datastore.getMapper()).toIndexModels(entityModel)) {
+            if (index.getKeys() instanceof Document keys && supports(keys)) {
+                return;
+            }
+        }
+        Sofia.logUnindexedPages(entityModel.collectionName(), sort.toJson());
+    }
+
+    /**
+     * An index supports the pages if it starts with the sorted paths, other than a trailing {@code _id}, in the same or in the reverse
+     * order.
+     */
+    private boolean supports(Document keys) {
+        int count = mappedPaths.get(mappedPaths.size() - 1).equals(ID) ? mappedPaths.size() - 1 : mappedPaths.size();
+        if (keys.size() < count) {
+            return false;
+        }
+        Iterator<Entry<String, Object>> entries = keys.entrySet().iterator();
+        int direction = 0;
+        for (int i = 0; i < count; i++) {
+            Entry<String, Object> entry = entries.next();
+            if (!entry.getKey().equals(mappedPaths.get(i)) || !(entry.getValue() instanceof Number value)) {
+                return false;
+            }
+            int matched = value.intValue() * orders.get(i);
+            if (matched == 0 || direction != 0 && Integer.signum(matched) != direction) {
+                return false;
+            }
+            direction = Integer.signum(matched);
+        }
+        return true;
+    }
+
+    private Codec<Document> documentCodec() {
+        return datastore.getCodecRegistry().get(Document.class);
+    }
+}
@@ -0,0 +1,79 @@
+package dev.morphia.query;
+
+import java.util.StringJoiner;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+
+/**
+ * A named placeholder for a filter value in a {@link PreparedQuery}. The value is supplied each time the prepared query is bound.
+ *
+ * <pre>
+ * PreparedQuery&lt;User&gt; byName = datastore.find(User.class)
+ *         .filter(eq("name", param("name")))
+ *         .prepare();
+ *
+ * User user = byName.bind(Map.of("name", "Bob")).first();
+ * </pre>
+ *
+ * @see Query#prepare()
+ * @since 3.0
+ */
+public final class Parameter {
+    private final String name;
+    @Nullable
+    private final PropertyHandler handler;
+
+    private Parameter(String name, @Nullable PropertyHandler handler) {
+        this.name = name;
+        this.handler = handler;
+    }
+
+    /**
+     * Creates a named parameter
+     *
+     * @param name the parameter name
+     * @return the parameter
+     */
+    public static Parameter param(String name) {
+        return new Parameter(name, null);
+    }
+
+    /**
+     * @return the parameter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the handler to encode bound values with, if any
+     * @hidden
+     * @morphia.internal
+     */
+    @Nullable
+    @MorphiaInternal
+    public PropertyHandler getHandler() {
+        return handler;
+    }
+
+    /**
+     * @param handler the handler of the property this parameter is compared against
+     * @return a copy of this parameter which encodes bound values with the handler
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public Parameter handledBy(PropertyHandler handler) {
+        return new Parameter(name, handler);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Parameter.class.getSimpleName() + "[", "]")
+                .add("name='" + name + "'")
+                .toString();
+    }
+}
@@ -0,0 +1,184 @@
+package dev.morphia.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.transactions.MorphiaSession;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import static dev.morphia.query.filters.Filters.and;
+import static dev.morphia.query.filters.Filters.gte;
+import static dev.morphia.query.filters.Filters.lt;
+
+/**
+ * Splits the results of a query in to ranges of {@code _id} values with one cursor per range so that the ranges can be read in
+ * parallel. The boundaries of the ranges are found with a {@code $bucketAuto} stage over the matching documents. Range filters only match
+ * values of the same BSON type as their bounds, so the results are only split when every sampled {@code _id} is of one type. Otherwise
+ * they are read through a single cursor.
+ *
+ * @param <T> the entity type
+ * @see Query#parallelStream(int)
+ * @since 3.0
+ */
+final class PartitionSpliterator<T> implements Spliterator<T> {
+    private static final String ID = "_id";
+
+    private final List<MorphiaQuery<T>> ranges;
+    private final long[] counts;
+    private final FindOptions options;
+    private final Queue<MorphiaCursor<T>> open;
+    private int next;
+    private int end;
+    @Nullable
+    private MorphiaCursor<T> cursor;
+
+    private PartitionSpliterator(List<MorphiaQuery<T>> ranges, long[] counts, FindOptions options, Queue<MorphiaCursor<T>> open,
+            int next, int end) {
+        this.ranges = ranges;
+        this.counts = counts;
+        this.options = options;
+        this.open = open;
+        this.next = next;
+        this.end = end;
+    }
+
+    /**
+     * Samples the range boundaries for the query
+     *
+     * @param datastore  the datastore
+     * @param query      the query to partition
+     * @param collection the collection to sample
+     * @param filter     the encoded filter of the query
+     * @param options    the options of the query
+     * @param partitions the number of partitions wanted
+     * @param <T>        the entity type
+     * @return the spliterator covering every range
+     */
+    static <T> PartitionSpliterator<T> partition(MorphiaDatastore datastore, MorphiaQuery<T> query, MongoCollection<T> collection,
+            Bson filter, FindOptions options, int partitions) {
+        List<Object> boundaries = new ArrayList<>();
+        List<Long> sizes = new ArrayList<>();
+        // a session can not be used by more than one thread at once so its queries are read through a single cursor
+        if (partitions > 1 && !(datastore instanceof MorphiaSession)) {
+            List<Bson> pipeline = List.of(new Document("$match", filter),
+                    new Document("$bucketAuto", new Document("groupBy", "$" + ID).append("buckets", partitions)));
+            Object first = null;
+            Object last = null;
+            for (Document bucket : datastore.operations().<Document> aggregate(collection, pipeline, Document.class)
+                    .allowDiskUse(options.allowDiskUse())) {
+                Document bounds = bucket.get(ID, Document.class);
+                if (sizes.isEmpty()) {
+                    first = bounds.get("min");
+                } else {
+                    boundaries.add(bounds.get("min"));
+                }
+                last = bounds.get("max");
+                sizes.add(((Number) bucket.get("count")).longValue());
+            }
+            // buckets are sorted in BSON order so the _ids are all of one type when the lowest and the highest are
+            if (first == null || last == null || typeOf(first) != typeOf(last)) {
+                boundaries.clear();
+                sizes.clear();
+            }
+        }
+
+        List<MorphiaQuery<T>> ranges = new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            Object lower = i > 0 ? boundaries.get(i - 1) : null;
+            Object upper = i < boundaries.size() ? boundaries.get(i) : null;
+            ranges.add(query.copy(range(lower, upper)));
+        }
+        long[] counts = new long[ranges.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = i < sizes.size() ? sizes.get(i) : Long.MAX_VALUE;
+        }
+        FindOptions rangeOptions = options.copy()
+                .skip(0)
+                .limit(0);
+        return new PartitionSpliterator<>(ranges, counts, rangeOptions, new ConcurrentLinkedQueue<>(), 0, ranges.size());
+    }
+
+    @Nullable
+    private static Filter range(@Nullable Object lower, @Nullable Object upper) {
+        if (lower == null) {
+            return upper == null ? null : lt(ID, upper);
+        }
+        return upper == null ? gte(ID, lower) : and(gte(ID, lower), lt(ID, upper));
+    }
+
+    private static Class<?> typeOf(Object value) {
+        // the numeric types compare with each other as one type
+        return value instanceof Number ? Number.class : value.getClass();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (cursor == null) {
+                if (next >= end) {
+                    return false;
+                }
+                cursor = ranges.get(next++).iterator(options.copy());
+                open.add(cursor);
+            }
+            if (cursor.hasNext()) {
+                action.accept(cursor.next());
+                return true;
+            }
+            cursor.close();
+            open.remove(cursor);
+            cursor = null;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        int remaining = end - next;
+        // while a range is being read the ranges after it may all be handed off
+        int handOff = cursor == null ? remaining / 2 : (remaining + 1) / 2;
+        if (handOff == 0) {
+            return null;
+        }
+        end -= handOff;
+        return new PartitionSpliterator<>(ranges, counts, options, open, end, end + handOff);
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int i = next; i < end; i++) {
+            if (counts[i] == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            size += counts[i];
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    /**
+     * Closes any cursor still open on any of the spliterators split from the original one
+     */
+    void close() {
+        MorphiaCursor<T> remaining;
+        while ((remaining = open.poll()) != null) {
+            remaining.close();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package dev.morphia.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * A query whose filters have been encoded once in to a template with a bind slot for each {@link Parameter}. Binding values only
+ * substitutes them in to the template so the filters, path translations, and discriminator values are not encoded again. Only the
+ * documents and arrays on the path to a slot are copied; the rest of the bound query shares the template's values.
+ * Instances are immutable and may be shared across threads.
+ *
+ * @param <T> the query type
+ * @see Query#prepare()
+ * @since 3.0
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class PreparedQuery<T> {
+    /**
+     * The field name used to mark bind slots in the template
+     *
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public static final String SLOT = "$$morphia.slot";
+
+    private static final ThreadLocal<List<Parameter>> PREPARING = new ThreadLocal<>();
+
+    private final MorphiaDatastore datastore;
+    private final Class<T> type;
+    private final FindOptions options;
+    private final boolean validate;
+    private final BsonDocument template;
+    private final List<Slot> slots = new ArrayList<>();
+
+    PreparedQuery(MorphiaDatastore datastore, Class<T> type, FindOptions options, boolean validate, Supplier<Document> encoder) {
+        this.datastore = datastore;
+        this.type = type;
+        this.options = options.copy();
+        this.validate = validate;
+
+        List<Parameter> parameters = new ArrayList<>();
+        List<Parameter> previous = PREPARING.get();
+        PREPARING.set(parameters);
+        Document query;
+        try {
+            query = encoder.get();
+        } finally {
+            if (previous != null) {
+                PREPARING.set(previous);
+            } else {
+                PREPARING.remove();
+            }
+        }
+
+        template = new BsonDocument();
+        datastore.getCodecRegistry().get(Document.class)
+                .encode(new BsonDocumentWriter(template), query, EncoderContext.builder().build());
+        locate(template, new ArrayList<>(), parameters);
+    }
+
+    /**
+     * Registers a parameter with the query being prepared on the current thread.
+     *
+     * @param parameter the parameter
+     * @return the parameter's slot
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public static int slot(Parameter parameter) {
+        List<Parameter> parameters = PREPARING.get();
+        if (parameters == null) {
+            throw new QueryException(Sofia.parameterNotPrepared(parameter.getName()));
+        }
+        parameters.add(parameter);
+        return parameters.size() - 1;
+    }
+
+    /**
+     * @return the names of the parameters in this query
+     */
+    public List<String> getParameterNames() {
+        List<String> names = new ArrayList<>();
+        for (Slot slot : slots) {
+            if (!names.contains(slot.parameter.getName())) {
+                names.add(slot.parameter.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Binds the given values to the query's parameters.
+     *
+     * @param values the values keyed by parameter name
+     * @return a query ready to execute
+     * @throws QueryException if a parameter has no value
+     */
+    public Query<T> bind(Map<String, ?> values) {
+        BsonDocument bound = (BsonDocument) copy(template);
+        Set<BsonValue> copied = Collections.newSetFromMap(new IdentityHashMap<>());
+        copied.add(bound);
+        for (Slot slot : slots) {
+            String name = slot.parameter.getName();
+            if (!values.containsKey(name)) {
+                throw new QueryException(Sofia.parameterNotBound(name));
+            }
+            slot.set(bound, encode(slot.parameter, values.get(name)), copied);
+        }
+
+        return new MorphiaQuery<>(datastore, type, options.copy(), bound, validate);
+    }
+
+    /**
+     * @return the encoded query with its bind slots
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public BsonDocument getTemplate() {
+        return template.clone();
+    }
+
+    @Override
+    public String toString() {
+        return template.toJson();
+    }
+
+    private BsonValue encode(Parameter parameter, @Nullable Object value) {
+        if (value != null && parameter.getHandler() != null) {
+            value = parameter.getHandler().encode(value);
+        }
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof BsonValue) {
+            return (BsonValue) value;
+        }
+        BsonDocument holder = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(holder);
+        writer.writeStartDocument();
+        writer.writeName("value");
+        Codec codec = datastore.getCodecRegistry().get(value.getClass());
+        EncoderContext.builder().build().encodeWithChildContext(codec, writer, value);
+        writer.writeEndDocument();
+        return holder.get("value");
+    }
+
+    private void locate(BsonValue value, List<Object> path, List<Parameter> parameters) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            for (Entry<String, BsonValue> entry : document.entrySet()) {
+                BsonValue child = entry.getValue();
+                path.add(entry.getKey());
+                if (isSlot(child)) {
+                    slots.add(new Slot(path, parameters.get(child.asDocument().getInt32(SLOT).getValue())));
+                } else {
+                    locate(child, path, parameters);
+                }
+                path.remove(path.size() - 1);
+            }
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            for (int i = 0; i < array.size(); i++) {
+                BsonValue child = array.get(i);
+                path.add(i);
+                if (isSlot(child)) {
+                    slots.add(new Slot(path, parameters.get(child.asDocument().getInt32(SLOT).getValue())));
+                } else {
+                    locate(child, path, parameters);
+                }
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Copies a document or array without copying its values
+     */
+    private static BsonValue copy(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument copy = new BsonDocument();
+            copy.putAll(value.asDocument());
+            return copy;
+        }
+        return new BsonArray(new ArrayList<>(value.asArray().getValues()));
+    }
+
+    private static boolean isSlot(BsonValue value) {
+        return value.isDocument() && value.asDocument().size() == 1 && value.asDocument().containsKey(SLOT);
+    }
+
+    private static final class Slot {
+        private final Object[] path;
+        private final Parameter parameter;
+
+        private Slot(List<Object> path, Parameter parameter) {
+            this.path = path.toArray();
+            this.parameter = parameter;
+        }
+
+        /**
+         * Sets the value of this slot in the bound query copying any container on the way which is still shared with the template
+         *
+         * @param root   the bound query
+         * @param value  the value to set
+         * @param copied the containers already copied for the bound query
+         */
+        private void set(BsonDocument root, BsonValue value, Set<BsonValue> copied) {
+            BsonValue parent = root;
+            for (int i = 0; i < path.length - 1; i++) {
+                BsonValue child = get(parent, path[i]);
+                if (!copied.contains(child)) {
+                    child = copy(child);
+                    copied.add(child);
+                    put(parent, path[i], child);
+                }
+                parent = child;
+            }
+            put(parent, path[path.length - 1], value);
+        }
+
+        private static BsonValue get(BsonValue parent, Object key) {
+            return key instanceof Integer
+                    ? parent.asArray().get((Integer) key)
+                    : parent.asDocument().get((String) key);
+        }
+
+        private static void put(BsonValue parent, Object key, BsonValue value) {
+            if (key instanceof Integer) {
+                parent.asArray().set((Integer) key, value);
+            } else {
+                parent.asDocument().put((String) key, value);
+            }
+        }
+    }
+}
@@ -132,6 +132,15 @@ public interface Query<T> extends Iterable<T> {
     @Nullable
     T first();
 
+    /**
+     * Encodes this query's filters once so that it can be executed repeatedly with different values for its {@link Parameter}s.
+     *
+     * @return the prepared query
+     * @see Parameter#param(String)
+     * @since 3.0
+     */
+    PreparedQuery<T> prepare();
+
     /**
      * Execute the query and get the results.
      *
@@ -140,6 +149,19 @@ public interface Query<T> extends Iterable<T> {
      */
     MorphiaCursor<T> iterator();
 
+    /**
+     * Reads the results of this query a page at a time using keyset pagination. Each page after the first is read by filtering for the
+     * results sorting after the last result of the previous page rather than by skipping results so deep pages cost the same to read as
+     * the first one. Any sort, skip, or limit configured on the options of this query is replaced.
+     *
+     * @param pageSize the number of results on each page
+     * @param sorts    the sorts to order the results by. {@code _id} is added as the last sort unless it is already sorted on.
+     * @return the pages
+     * @see Pages
+     * @since 3.0
+     */
+    Pages<T> pages(int pageSize, Sort... sorts);
+
     /**
      * Create a modify operation based on this query
      *
@@ -172,6 +194,20 @@ public interface Query<T> extends Iterable<T> {
      */
     Stream<T> stream();
 
+    /**
+     * Provides a parallel {@link Stream} of the results of this query. The matching documents are split in to ranges of {@code _id}
+     * values, sampled up front with a {@code $bucketAuto} stage, and each range is read through its own cursor so that the ranges can be
+     * consumed by several threads at once. The results are unordered and any skip or limit configured on the options of this query is
+     * ignored. Queries run in a session are read through a single cursor since a session can not be shared between threads.
+     * <p>
+     * The stream should be closed once consumed, e.g. with try-with-resources, to close any cursor left open.
+     *
+     * @param partitions the number of ranges to split the results in to
+     * @return the stream
+     * @since 3.0
+     */
+    Stream<T> parallelStream(int partitions);
+
     /**
      * Creates an update operation based on this query
      *
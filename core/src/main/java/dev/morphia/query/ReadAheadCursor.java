@@ -0,0 +1,225 @@
+package dev.morphia.query;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.internal.Workers;
+import dev.morphia.sofia.Sofia;
+
+/**
+ * Reads the results of a cursor on one of the {@link Workers#shared() shared workers} in to a bounded buffer while the caller consumes the
+ * results already read. Only the background thread touches the underlying cursor once reading starts, other than to close it.
+ * <p>
+ * If the buffer stays full because the caller has taken nothing for {@link #IDLE_TIMEOUT_MS}, the cursor is assumed to have been
+ * abandoned without being closed. Reading then stops and the underlying cursor is closed so that neither the thread nor the server
+ * cursor is held indefinitely. A caller which comes back afterwards gets the results already buffered followed by an error.
+ *
+ * @param <T> the result type
+ * @see FindOptions#readAhead(int)
+ * @since 3.0
+ */
+final class ReadAheadCursor<T> implements MongoCursor<T> {
+    private static final Object END = new Object();
+    private static final long POLL_MS = 50;
+    /**
+     * How long reading waits on a full buffer before giving up. This matches the server's default timeout for idle cursors so a caller
+     * which takes longer than this between results would most likely have lost its cursor on the server anyway.
+     */
+    static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final MongoCursor<T> wrapped;
+    private final Supplier<T> reader;
+    private final BlockingQueue<Object> buffer;
+    private final ReadAheadStatistics statistics;
+    private final long idleTimeout;
+    private volatile boolean closed;
+    /**
+     * What the caller gets once the buffer drains after reading gave up on a full buffer
+     */
+    @Nullable
+    private volatile Object abandoned;
+    @Nullable
+    private Object head;
+
+    /**
+     * @param wrapped  the opened cursor
+     * @param capacity the number of results to buffer
+     * @param reader   reads the next result from the cursor, returning null once it is exhausted
+     */
+    ReadAheadCursor(MongoCursor<T> wrapped, int capacity, Supplier<T> reader) {
+        this(wrapped, capacity, IDLE_TIMEOUT_MS, reader);
+    }
+
+    /**
+     * @param wrapped     the opened cursor
+     * @param capacity    the number of results to buffer
+     * @param idleTimeout how long, in milliseconds, reading waits on a full buffer before the cursor is considered abandoned
+     * @param reader      reads the next result from the cursor, returning null once it is exhausted
+     */
+    ReadAheadCursor(MongoCursor<T> wrapped, int capacity, long idleTimeout, Supplier<T> reader) {
+        this.wrapped = wrapped;
+        this.reader = reader;
+        this.idleTimeout = idleTimeout;
+        buffer = new ArrayBlockingQueue<>(capacity);
+        statistics = new ReadAheadStatistics(capacity, buffer);
+        Workers.shared().execute(this::read);
+    }
+
+    ReadAheadStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        head = END;
+        buffer.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peek(true) != END;
+    }
+
+    @Override
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public T next() {
+        Object next = peek(true);
+        if (next == END) {
+            throw new NoSuchElementException();
+        }
+        head = null;
+        return (T) next;
+    }
+
+    @Override
+    public int available() {
+        return buffer.size() + (head != null && head != END ? 1 : 0);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T tryNext() {
+        Object next = peek(false);
+        if (next == null || next == END) {
+            return null;
+        }
+        head = null;
+        return (T) next;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Cursors do not support removal");
+    }
+
+    @Nullable
+    private Object peek(boolean wait) {
+        if (head == null) {
+            head = buffer.poll();
+            if (head == null) {
+                head = abandoned;
+            }
+            if (head == null && wait) {
+                long start = System.nanoTime();
+                try {
+                    while (head == null) {
+                        head = buffer.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                        if (head == null) {
+                            head = abandoned;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MongoInterruptedException("Interrupted waiting for the next result", e);
+                }
+                statistics.stalled(System.nanoTime() - start);
+            }
+        }
+        if (head instanceof Failure failure) {
+            head = END;
+            failure.rethrow();
+        }
+        return head;
+    }
+
+    private void read() {
+        try {
+            T next;
+            while (!closed && (next = reader.get()) != null) {
+                if (!put(next)) {
+                    return;
+                }
+            }
+            put(END);
+        } catch (RuntimeException | Error e) {
+            if (!closed) {
+                put(new Failure(e));
+            }
+        }
+    }
+
+    /**
+     * @return false if the item could not be buffered because the cursor was closed or abandoned
+     */
+    private boolean put(Object item) {
+        try {
+            if (!buffer.offer(item)) {
+                long start = System.nanoTime();
+                long deadline = start + TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+                while (!buffer.offer(item, POLL_MS, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        return false;
+                    }
+                    if (System.nanoTime() - deadline > 0) {
+                        abandoned = item == END ? END : new Failure(new MongoClientException(Sofia.readAheadAbandoned(idleTimeout)));
+                        wrapped.close();
+                        return false;
+                    }
+                }
+                statistics.waited(System.nanoTime() - start);
+            }
+            statistics.buffered(buffer.size());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            buffer.offer(new Failure(new MongoInterruptedException("Interrupted reading ahead", e)));
+            return false;
+        }
+    }
+
+    private record Failure(Throwable cause) {
+        void rethrow() {
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.morphia.query;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports how well reading ahead keeps up with a cursor's caller. A caller which stalls often is consuming results faster than they can
+ * be read and decoded while a reader which waits often has more room in its buffer than the caller needs.
+ *
+ * @see FindOptions#readAhead(int)
+ * @see MorphiaCursor#getReadAheadStatistics()
+ * @since 3.0
+ */
+public final class ReadAheadStatistics {
+    private final int capacity;
+    private final BlockingQueue<?> buffer;
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong stallTime = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitTime = new AtomicLong();
+
+    ReadAheadStatistics(int capacity, BlockingQueue<?> buffer) {
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return the most results which may be buffered ahead of the caller
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of results currently buffered ahead of the caller
+     */
+    public int depth() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the most results buffered ahead of the caller at any one time
+     */
+    public int maxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * @return the number of times the caller found the buffer empty and had to wait for the next result
+     */
+    public long stalls() {
+        return stalls.get();
+    }
+
+    /**
+     * @param unit the unit to report in
+     * @return the total time the caller spent waiting on an empty buffer
+     */
+    public long stallTime(TimeUnit unit) {
+        return unit.convert(stallTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of times reading paused because the buffer was full
+     */
+    public long waits() {
+        return waits.get();
+    }
+
+    /**
+     * @param unit the unit to report in
+     * @return the total time reading spent paused on a full buffer
+     */
+    public long waitTime(TimeUnit unit) {
+        return unit.convert(waitTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    void buffered(int depth) {
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void stalled(long nanos) {
+        stalls.incrementAndGet();
+        stallTime.addAndGet(nanos);
+    }
+
+    void waited(long nanos) {
+        waits.incrementAndGet();
+        waitTime.addAndGet(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "ReadAheadStatistics{capacity=%d, depth=%d, maxDepth=%d, stalls=%d, stallTime=%dms, waits=%d, waitTime=%dms}".formatted(
+                capacity, depth(), maxDepth(), stalls(), stallTime(TimeUnit.MILLISECONDS), waits(), waitTime(TimeUnit.MILLISECONDS));
+    }
+}
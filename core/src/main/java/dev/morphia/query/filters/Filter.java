@@ -9,6 +9,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.Parameter;
 
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -164,7 +165,12 @@ public class Filter {
             this.value = operationTarget.getValue();
             PropertyModel property = target.target();
             if (property != null && property.specializeCodec(datastore) instanceof PropertyHandler) {
-                this.value = ((Document) operationTarget.encode(datastore)).get(field);
+                if (value instanceof Parameter) {
+                    // bound values are handled when the prepared query is bound
+                    this.value = ((Parameter) value).handledBy((PropertyHandler) property.specializeCodec(datastore));
+                } else {
+                    this.value = ((Document) operationTarget.encode(datastore)).get(field);
+                }
             }
             mapped = true;
         }
@@ -5,11 +5,14 @@ import java.util.List;
 import com.mongodb.ClientSessionOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.TransactionOptions;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -28,6 +31,7 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.ReplaceOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.FanOut;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 
@@ -36,6 +40,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * @hidden
@@ -62,6 +67,14 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         this.session = session;
     }
 
+    /**
+     * A client session may only be used by one thread at a time so operations in a session always run in turn.
+     */
+    @Override
+    public FanOut getFanOut() {
+        return FanOut.sequential();
+    }
+
     @Override
     @Nullable
     public ServerAddress getPinnedServerAddress() {
@@ -199,42 +212,48 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     private class TransactionalOperations extends DatastoreOperations {
         @Override
-        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline) {
+        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline) {
             return (AggregateIterable<T>) collection.aggregate(session, pipeline);
         }
 
         @Override
-        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<Document> pipeline, Class<?> resultType) {
+        public <T> AggregateIterable<T> aggregate(MongoCollection<?> collection, List<? extends Bson> pipeline, Class<?> resultType) {
             return (AggregateIterable<T>) collection.aggregate(session, pipeline, resultType);
         }
 
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(session, requests, options);
+        }
+
+        @Override
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(session, query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(session, queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(session, queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(session, query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(session, queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options) {
             return collection.findOneAndUpdate(session, query, update, options);
         }
 
@@ -261,25 +280,25 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
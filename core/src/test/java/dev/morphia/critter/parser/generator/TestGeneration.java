@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import dev.morphia.annotations.Entity;
@@ -20,14 +21,20 @@ import dev.morphia.annotations.internal.IndexBuilder;
 import dev.morphia.annotations.internal.IndexOptionsBuilder;
 import dev.morphia.annotations.internal.IndexesBuilder;
 import dev.morphia.critter.CritterClassLoader;
+import dev.morphia.critter.parser.FieldInfo;
 import dev.morphia.critter.parser.MethodInfo;
 import dev.morphia.critter.sources.Example;
 import dev.morphia.critter.sources.MethodExample;
+import dev.morphia.mapping.TestCritterMapper.ArrayEntity;
+import dev.morphia.mapping.codec.ArrayFieldAccessor;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.FieldAccessor;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.TypeData;
 import dev.morphia.mapping.lifecycle.EntityListenerAdapter;
 
+import org.bson.codecs.pojo.PropertyAccessor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -85,6 +92,33 @@ public class TestGeneration {
         Assertions.assertTrue(result.isEmpty());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReflectiveFallbackAccessors() throws Exception {
+        Conversions conversions = defaultMapper().getConversions();
+        ArrayEntity entity = new ArrayEntity();
+
+        PropertyAccessor<Object> flags = (PropertyAccessor<Object>) new NestmateAccessorGenerator(ArrayEntity.class,
+                new FieldInfo("flags", "[Ljava/lang/Byte;", null, 0, List.of()))
+                .reflectiveAccessor(conversions);
+        Assertions.assertInstanceOf(ArrayFieldAccessor.class, flags);
+        flags.set(entity, List.of(1, 2));
+        Assertions.assertArrayEquals(new Byte[] { 1, 2 }, (Byte[]) flags.get(entity));
+
+        UUID uuid = UUID.randomUUID();
+        PropertyAccessor<Object> names = (PropertyAccessor<Object>) new NestmateAccessorGenerator(ArrayEntity.class,
+                new FieldInfo("names", "[Ljava/lang/String;", null, 0, List.of()))
+                .reflectiveAccessor(conversions);
+        names.set(entity, new Object[] { uuid });
+        Assertions.assertArrayEquals(new String[] { uuid.toString() }, (String[]) names.get(entity));
+
+        PropertyAccessor<?> data = new NestmateAccessorGenerator(ArrayEntity.class,
+                new FieldInfo("data", "[B", null, 0, List.of()))
+                .reflectiveAccessor(conversions);
+        Assertions.assertInstanceOf(FieldAccessor.class, data);
+        Assertions.assertFalse(data instanceof ArrayFieldAccessor);
+    }
+
     @Test
     public void testGenerator() throws Exception {
         new CritterGenerator(defaultMapper()).generate(Example.class, critterClassLoader, false);
@@ -1,7 +1,9 @@
 package dev.morphia.mapping;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,6 +19,7 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.pojo.critter.CritterEntityModel;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -144,6 +147,60 @@ public class TestCritterMapper {
         }
     }
 
+    @Test
+    public void testConcurrentMappingOfDistinctTypes() throws Exception {
+        CritterMapper mapper = mapper();
+        List<Class<?>> types = List.of(CritterMapperTestEntity.class, MethodsChild.class, PrivateGetterChild.class,
+                StaticGetterEntity.class, OverridingChild.class, GrandChild.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(types.size() * 2);
+
+        List<Future<EntityModel>> futures = new ArrayList<>();
+        for (int i = 0; i < types.size() * 2; i++) {
+            Class<?> type = types.get(i % types.size());
+            futures.add(pool.submit(() -> {
+                latch.await();
+                return mapper.getEntityModel(type);
+            }));
+        }
+
+        latch.countDown();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Class<?> type = types.get(i % types.size());
+                Assertions.assertSame(mapper.getEntityModel(type), futures.get(i).get());
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCopiesCanBeCollected() throws InterruptedException {
+        CritterMapper original = mapper();
+        original.mapEntity(CritterMapperTestEntity.class);
+        Mapper copy = original.copy();
+        Assertions.assertNotNull(copy.getEntityModel(CritterMapperTestEntity.class));
+        WeakReference<Mapper> reference = new WeakReference<>(copy);
+        copy = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assertions.assertNull(reference.get(), "a discarded mapper copy should not stay reachable through its mapped classes");
+    }
+
+    @Test
+    public void testUnmappableTypesStayUnmapped() {
+        CritterMapper mapper = mapper();
+        Assertions.assertTrue(mapper.tryGetEntityModel(Document.class).isEmpty());
+        Assertions.assertTrue(mapper.tryGetEntityModel(Document.class).isEmpty());
+        Assertions.assertFalse(mapper.isMappable(Document.class));
+        Assertions.assertThrows(NotMappableException.class, () -> mapper.getEntityModel(Document.class));
+    }
+
     /**
      * Phase 6.2: verify that the session-datastore copy pattern works.
      * SessionDatastore calls super(datastore) → MorphiaDatastore(MorphiaDatastore) → mapper.copy().
@@ -259,6 +316,55 @@ public class TestCritterMapper {
         Assertions.assertEquals("test", model.getProperty("data").getAccessor().get(instance));
     }
 
+    @Test
+    public void testArrayPropertiesUseGeneratedAccessors() {
+        CritterMapper mapper = mapper();
+        EntityModel model = mapper.mapEntity(ArrayEntity.class);
+        Assertions.assertTrue(model instanceof CritterEntityModel,
+                "Array-typed properties must not force a reflection fallback but got: " + model.getClass().getName());
+
+        ArrayEntity instance = new ArrayEntity();
+        // codecs may decode arrays as Object[] or List which the accessors adapt to the property's type
+        model.getProperty("names").getAccessor().set(instance, new Object[] { "a", "b" });
+        model.getProperty("counts").getAccessor().set(instance, List.of(1, 2, 3));
+        model.getProperty("grid").getAccessor().set(instance, new Object[] { List.of("x"), new Object[] { "y", "z" } });
+        model.getProperty("data").getAccessor().set(instance, new byte[] { 4 });
+
+        Assertions.assertArrayEquals(new String[] { "a", "b" }, instance.names);
+        Assertions.assertArrayEquals(new int[] { 1, 2, 3 }, instance.counts);
+        Assertions.assertArrayEquals(new String[][] { { "x" }, { "y", "z" } }, instance.grid);
+        Assertions.assertArrayEquals(new byte[] { 4 }, instance.data);
+        Assertions.assertSame(instance.names, model.getProperty("names").getAccessor().get(instance));
+    }
+
+    @Test
+    public void testArrayElementsUseConversions() {
+        CritterMapper mapper = mapper();
+        EntityModel model = mapper.mapEntity(ArrayEntity.class);
+        Assertions.assertTrue(model instanceof CritterEntityModel);
+
+        ArrayEntity instance = new ArrayEntity();
+        UUID uuid = UUID.randomUUID();
+        model.getProperty("names").getAccessor().set(instance, new Object[] { uuid });
+        model.getProperty("flags").getAccessor().set(instance, List.of(1, 2));
+        model.getProperty("grid").getAccessor().set(instance, List.of(List.of(uuid)));
+
+        Assertions.assertArrayEquals(new String[] { uuid.toString() }, instance.names);
+        Assertions.assertArrayEquals(new Byte[] { 1, 2 }, instance.flags);
+        Assertions.assertArrayEquals(new String[][] { { uuid.toString() } }, instance.grid);
+    }
+
+    @Entity("array_entity")
+    public static class ArrayEntity {
+        @Id
+        ObjectId id;
+        String[] names;
+        int[] counts;
+        String[][] grid;
+        byte[] data;
+        Byte[] flags;
+    }
+
     public static class MethodsBase {
         // transient: excluded from field-based discovery so only METHODS mode maps this property
         private transient String name;
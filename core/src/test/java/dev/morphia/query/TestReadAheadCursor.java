@@ -0,0 +1,127 @@
+package dev.morphia.query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mongodb.MongoClientException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestReadAheadCursor {
+    @Test
+    public void abandonedCursorsAreClosed() throws InterruptedException {
+        CountingCursor wrapped = new CountingCursor(100);
+        ReadAheadCursor<Integer> cursor = new ReadAheadCursor<>(wrapped, 2, 100, () -> wrapped.hasNext() ? wrapped.next() : null);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!wrapped.closed.get() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertTrue(wrapped.closed.get(), "The reader should have closed the abandoned cursor");
+
+        // the buffered results are still handed out before the caller learns the rest were dropped
+        Assertions.assertEquals(List.of(0, 1), List.of(cursor.next(), cursor.next()));
+        Assertions.assertThrows(MongoClientException.class, cursor::hasNext);
+        Assertions.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void exhaustedCursorsEndNormally() throws InterruptedException {
+        CountingCursor wrapped = new CountingCursor(2);
+        ReadAheadCursor<Integer> cursor = new ReadAheadCursor<>(wrapped, 2, 100, () -> wrapped.hasNext() ? wrapped.next() : null);
+
+        // only the end marker is left waiting on the full buffer when the idle timeout expires
+        Thread.sleep(500);
+        Assertions.assertEquals(List.of(0, 1), List.of(cursor.next(), cursor.next()));
+        Assertions.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void readerFailuresReachTheCaller() {
+        CountingCursor wrapped = new CountingCursor(100);
+        ReadAheadCursor<Integer> cursor = new ReadAheadCursor<>(wrapped, 4, () -> {
+            int next = wrapped.next();
+            if (next == 3) {
+                throw new IllegalStateException("read failed");
+            }
+            return next;
+        });
+
+        Assertions.assertEquals(List.of(0, 1, 2), List.of(cursor.next(), cursor.next(), cursor.next()));
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, cursor::next);
+        Assertions.assertEquals("read failed", exception.getMessage());
+        Assertions.assertFalse(cursor.hasNext());
+        cursor.close();
+    }
+
+    @Test
+    public void closingEarlyStopsTheReader() throws InterruptedException {
+        CountingCursor wrapped = new CountingCursor(Integer.MAX_VALUE);
+        ReadAheadCursor<Integer> cursor = new ReadAheadCursor<>(wrapped, 2, () -> wrapped.hasNext() ? wrapped.next() : null);
+
+        Assertions.assertEquals(0, cursor.next());
+        cursor.close();
+        Assertions.assertTrue(wrapped.closed.get());
+        Assertions.assertFalse(cursor.hasNext());
+        Assertions.assertNull(cursor.tryNext());
+
+        // at most the result in hand and one more are read once the reader notices the close
+        int read = wrapped.count.get();
+        Thread.sleep(200);
+        Assertions.assertTrue(wrapped.count.get() <= read + 1, "The reader should stop once the cursor is closed");
+    }
+
+    private static final class CountingCursor implements MongoCursor<Integer> {
+        private final int size;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private CountingCursor(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return count.get() < size;
+        }
+
+        @Override
+        @NonNull
+        public Integer next() {
+            return count.getAndIncrement();
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public Integer tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        @NonNull
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+    }
+}
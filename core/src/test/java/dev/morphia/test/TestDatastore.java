@@ -209,6 +209,27 @@ public class TestDatastore extends TestBase {
         Assertions.assertEquals(1, query.count());
     }
 
+    @Test
+    public void testCollectionHandlesAreReused() {
+        MongoCollection<Book> collection = getDs().getCollection(Book.class);
+        Assertions.assertSame(collection, getDs().getCollection(Book.class));
+
+        MongoCollection<Book> majority = getDs().configureCollection(new InsertOneOptions()
+                .writeConcern(WriteConcern.MAJORITY), collection);
+        Assertions.assertEquals(WriteConcern.MAJORITY, majority.getWriteConcern());
+        Assertions.assertSame(majority, getDs().configureCollection(new InsertOneOptions()
+                .writeConcern(WriteConcern.MAJORITY), collection));
+        Assertions.assertEquals(WriteConcern.W2, getDs().configureCollection(new InsertOneOptions()
+                .writeConcern(WriteConcern.W2), collection).getWriteConcern());
+
+        MongoCollection<Book> alternate = getDs().configureCollection(new InsertOneOptions()
+                .collection("alternate"), collection);
+        Assertions.assertEquals("alternate", alternate.getNamespace().getCollectionName());
+        Assertions.assertSame(alternate, getDs().configureCollection(new InsertOneOptions()
+                .collection("alternate"), collection));
+        Assertions.assertSame(collection, getDs().configureCollection(new InsertOneOptions(), collection));
+    }
+
     @Test
     public void testCollectionNames() {
         Assertions.assertEquals("facebook_users", getMapper().getEntityModel(FacebookUser.class).collectionName());
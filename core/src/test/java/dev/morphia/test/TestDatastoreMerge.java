@@ -60,6 +60,28 @@ public class TestDatastoreMerge extends TestBase {
         Assertions.assertEquals(merge.position, te2.position);
     }
 
+    @Test
+    public void testMergeWithoutReturn() {
+        final Merger te = new Merger();
+        te.name = "test1";
+        te.foo = "bar";
+        te.position = 1;
+        getDs().save(te);
+
+        final Merger te2 = new Merger();
+        te2.id = te.id;
+        te2.position = 5;
+        Merger merge = getDs().merge(te2, new InsertOneOptions().returnMerged(false));
+
+        Assertions.assertSame(te2, merge);
+        Assertions.assertNull(merge.name);
+
+        Merger stored = getDs().find(Merger.class).filter(eq("_id", te.id)).first();
+        Assertions.assertEquals(te.name, stored.name);
+        Assertions.assertEquals(te.foo, stored.foo);
+        Assertions.assertEquals(te2.position, stored.position);
+    }
+
     @Test
     public void testMergeWithUnset() {
         final Merger te = new Merger();
@@ -1,8 +1,11 @@
 package dev.morphia.test;
 
 import dev.morphia.annotations.Entity;
+import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.test.models.TestEntity;
 
+import org.bson.codecs.configuration.CodecConfigurationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +25,28 @@ public class TestDiscriminatorLookup extends TestBase {
         Assertions.assertTrue(Shape.Square.class.isInstance(entity.getShape()));
     }
 
+    @Test
+    public void testCachedResolutions() {
+        DiscriminatorLookup lookup = new DiscriminatorLookup(getClass().getClassLoader());
+
+        Assertions.assertEquals(String.class, lookup.lookup(String.class.getName()));
+        Assertions.assertThrows(CodecConfigurationException.class, () -> lookup.lookup("com.example.Missing"));
+        long classLoads = lookup.classLoads();
+
+        Assertions.assertEquals(String.class, lookup.lookup(String.class.getName()));
+        Assertions.assertThrows(CodecConfigurationException.class, () -> lookup.lookup("com.example.Missing"));
+        Assertions.assertEquals(classLoads, lookup.classLoads());
+        Assertions.assertEquals(2, lookup.hits());
+        Assertions.assertEquals(2, lookup.misses());
+
+        DiscriminatorLookup mapped = getMapper().getDiscriminatorLookup();
+        EntityModel model = getMapper().getEntityModel(SomeEntity.class);
+        long before = mapped.classLoads();
+        Assertions.assertEquals(SomeEntity.class, mapped.lookup(model.discriminator()));
+        Assertions.assertEquals(SomeEntity.class, mapped.lookup(SomeEntity.class.getName()));
+        Assertions.assertEquals(before, mapped.classLoads());
+    }
+
     @Entity
     public static class SomeEntity extends TestEntity {
         private Shape shape;
@@ -1,15 +1,18 @@
 package dev.morphia.test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.result.UpdateResult;
 
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
 import dev.morphia.ModifyOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.VersionMismatchException;
@@ -292,6 +295,53 @@ public class TestVersioning extends TestBase {
         Assertions.assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
     }
 
+    @Test
+    public void testMultiSavesReportEachMismatch() {
+        List<VersionedType> initial = of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        for (VersionedType stale : initial.subList(0, 2)) {
+            getDs().save(getDs().find(VersionedType.class)
+                    .filter(eq("_id", stale.getId()))
+                    .first());
+        }
+
+        VersionMismatchException mismatch = Assertions.assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
+        Assertions.assertEquals(1, mismatch.getSuppressed().length);
+
+        Assertions.assertEquals(1, initial.get(0).version);
+        Assertions.assertEquals(1, initial.get(1).version);
+        Assertions.assertEquals(2, initial.get(2).version);
+        Assertions.assertEquals(2, getDs().find(VersionedType.class)
+                .filter(eq("_id", initial.get(2).getId()))
+                .first().version);
+    }
+
+    @Test
+    public void testMultiSavesReportMismatchesAlongsideWriteErrors() {
+        List<VersionedType> initial = of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+        VersionedType stale = initial.get(0);
+        VersionedType current = initial.get(1);
+        getDs().save(getDs().find(VersionedType.class)
+                .filter(eq("_id", stale.getId()))
+                .first());
+
+        VersionedType duplicate = new VersionedType();
+        duplicate.setId(current.getId());
+
+        VersionMismatchException mismatch = Assertions.assertThrows(VersionMismatchException.class,
+                () -> getDs().save(of(stale, duplicate, current), new InsertManyOptions().ordered(false)));
+        Assertions.assertTrue(Arrays.stream(mismatch.getSuppressed()).anyMatch(MongoBulkWriteException.class::isInstance));
+
+        Assertions.assertEquals(1, stale.version);
+        Assertions.assertEquals(0, duplicate.version);
+        Assertions.assertEquals(2, current.version);
+        Assertions.assertEquals(2, getDs().find(VersionedType.class)
+                .filter(eq("_id", current.getId()))
+                .first().version);
+    }
+
     @Test
     public void testPrimitive() {
         Primitive Primitive = new Primitive();
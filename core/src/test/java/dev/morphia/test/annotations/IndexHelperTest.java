@@ -6,6 +6,7 @@ import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Entity;
@@ -144,7 +145,7 @@ public class IndexHelperTest extends TestBase {
             Mapper mapper = getMapper();
             collection.drop();
 
-            getIndexHelper().createIndex(collection, mapper.getEntityModel(IndexedClass.class));
+            createIndexes(collection, mapper.getEntityModel(IndexedClass.class));
             List<Document> indexInfo = getIndexInfo(IndexedClass.class);
             List<String> names = new ArrayList<>(asList("latitude_1", "searchme", "indexName_1"));
             for (Document document : indexInfo) {
@@ -167,7 +168,7 @@ public class IndexHelperTest extends TestBase {
             Assertions.assertTrue(names.isEmpty(), "Should be empty: " + names);
 
             collection = getDatabase().getCollection(getDs().getCollection(AbstractParent.class).getNamespace().getCollectionName());
-            getIndexHelper().createIndex(collection, mapper.getEntityModel(AbstractParent.class));
+            createIndexes(collection, mapper.getEntityModel(AbstractParent.class));
             indexInfo = getIndexInfo(AbstractParent.class);
             Assertions.assertTrue(indexInfo.isEmpty(), "Shouldn't find any indexes: " + indexInfo);
 
@@ -226,7 +227,7 @@ public class IndexHelperTest extends TestBase {
                                 .build())
                 .options(options)
                 .build();
-        getIndexHelper().createIndex(collection, model, index);
+        createIndex(collection, model, index);
         List<Document> indexInfo = getIndexInfo(IndexedClass.class);
         for (Document document : indexInfo) {
             if (document.get("name").equals("indexName")) {
@@ -320,7 +321,7 @@ public class IndexHelperTest extends TestBase {
                         .build())
                 .build();
 
-        getIndexHelper().createIndex(collection, model, index);
+        createIndex(collection, model, index);
         findPartialIndex(Document.parse(index.options().partialFilter()));
     }
 
@@ -335,7 +336,7 @@ public class IndexHelperTest extends TestBase {
                         .build())
                 .build();
 
-        getIndexHelper().createIndex(collection, model, getIndexHelper().convert(indexed, "text"));
+        createIndex(collection, model, getIndexHelper().convert(indexed, "text"));
         findPartialIndex(Document.parse(indexed.options().partialFilter()));
     }
 
@@ -371,7 +372,7 @@ public class IndexHelperTest extends TestBase {
                         .build())
                 .build();
 
-        getIndexHelper().createIndex(collection, model, getIndexHelper().convert(text, "text"));
+        createIndex(collection, model, getIndexHelper().convert(text, "text"));
         findPartialIndex(Document.parse(text.options().partialFilter()));
     }
 
@@ -388,7 +389,7 @@ public class IndexHelperTest extends TestBase {
                             .build())
                     .build();
 
-            getIndexHelper().createIndex(indexes, model, index);
+            createIndex(indexes, model, index);
         });
     }
 
@@ -404,7 +405,7 @@ public class IndexHelperTest extends TestBase {
                         .build())
                 .build();
 
-        getIndexHelper().createIndex(indexes, model, index);
+        createIndex(indexes, model, index);
 
         List<Document> wildcard = getIndexInfo(IndexedClass.class);
         boolean found = false;
@@ -414,6 +415,18 @@ public class IndexHelperTest extends TestBase {
         Assertions.assertTrue(found, "Should have found the wildcard index");
     }
 
+    private void createIndex(MongoCollection<Document> collection, EntityModel model, Index index) {
+        IndexModel indexModel = getIndexHelper().toIndexModel(model, index);
+        collection.createIndex(indexModel.getKeys(), indexModel.getOptions());
+    }
+
+    private void createIndexes(MongoCollection<Document> collection, EntityModel model) {
+        List<IndexModel> indexes = getIndexHelper().toIndexModels(model);
+        if (!indexes.isEmpty()) {
+            collection.createIndexes(indexes);
+        }
+    }
+
     private IndexOptions buildOptions(boolean background) {
         IndexOptions indexOptions = indexOptionsBuilder()
                 .name("index_name")
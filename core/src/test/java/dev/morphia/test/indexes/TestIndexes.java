@@ -5,12 +5,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.model.geojson.Position;
 
+import dev.morphia.IndexReport;
+import dev.morphia.IndexReport.IndexResult;
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Field;
@@ -237,6 +240,54 @@ public class TestIndexes extends TestBase {
         }
     }
 
+    @Test
+    public void testIndexReport() {
+        withConfig(buildConfig(UniqueIndexOnValue.class), () -> {
+            IndexReport first = getDs().applyIndexes();
+            Assertions.assertEquals(2, first.getCreated().size() + first.getExisting().size(), first.toString());
+
+            IndexReport second = getDs().applyIndexes();
+            Assertions.assertTrue(second.getCreated().isEmpty(), second.toString());
+            Assertions.assertEquals(2, second.getExisting().size(), second.toString());
+
+            MongoCollection<UniqueIndexOnValue> collection = getDs().getCollection(UniqueIndexOnValue.class);
+            collection.dropIndex("unique_1");
+            collection.dropIndex("l_ascending");
+            collection.createIndex(new Document("value", 1), new com.mongodb.client.model.IndexOptions().name("l_ascending"));
+
+            IndexReport third = getDs().applyIndexes();
+            Assertions.assertEquals(List.of("unique_1"), names(third.getCreated()), third.toString());
+            Assertions.assertEquals(List.of("l_ascending"), names(third.getConflicted()), third.toString());
+            Assertions.assertTrue(third.getExisting().isEmpty(), third.toString());
+            IndexResult conflict = third.getConflicted().get(0);
+            Assertions.assertEquals("l_ascending", conflict.getConflictingIndex().getString("name"));
+            Assertions.assertFalse(conflict.getConflictingIndex().getBoolean("unique", false));
+            Assertions.assertNotNull(conflict.getReason());
+            assertThat(getIndexInfo(UniqueIndexOnValue.class), hasIndexNamed("unique_1"));
+        });
+    }
+
+    @Test
+    public void testTextWeightsAreCompared() {
+        withConfig(buildConfig(SingleFieldTextIndex.class), () -> {
+            getDs().applyIndexes();
+            IndexReport report = getDs().applyIndexes();
+            Assertions.assertEquals(List.of("single_annotation"), names(report.getExisting()), report.toString());
+
+            MongoCollection<SingleFieldTextIndex> collection = getDs().getCollection(SingleFieldTextIndex.class);
+            collection.dropIndex("single_annotation");
+            collection.createIndex(new Document("nickName", "text"), new com.mongodb.client.model.IndexOptions()
+                    .name("single_annotation")
+                    .languageOverride("nativeTongue")
+                    .weights(new Document("nickName", 5)));
+
+            report = getDs().applyIndexes();
+            Assertions.assertEquals(List.of("single_annotation"), names(report.getConflicted()), report.toString());
+            Assertions.assertEquals(new Document("nickName", 5),
+                    report.getConflicted().get(0).getConflictingIndex().get("weights", Document.class));
+        });
+    }
+
     @Test
     public void testInheritedFieldIndex() {
         Assertions.assertEquals(4, getIndexInfo(Circle.class).size());
@@ -299,6 +350,12 @@ public class TestIndexes extends TestBase {
 
     }
 
+    private static List<String> names(List<IndexResult> results) {
+        return results.stream()
+                .map(IndexResult::getName)
+                .collect(Collectors.toList());
+    }
+
     @Entity
     @Indexes(@Index(fields = { @Field("active"),
             @Field(value = "lastModified", type = IndexType.DESC) }, options = @IndexOptions(unique = true)))
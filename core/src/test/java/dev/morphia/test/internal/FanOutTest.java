@@ -0,0 +1,98 @@
+package dev.morphia.test.internal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.internal.FanOut;
+import dev.morphia.mapping.codec.pojo.DecodeScope;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.test.TestBase;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FanOutTest extends TestBase {
+    @Test
+    public void nestedFanOutsRunInline() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FanOut fanOut = new FanOut(new ManualMorphiaConfig()
+                    .parallelism(2)
+                    .executor(executor));
+            Map<String, List<String>> results = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> fanOut.mapValues(Map.of("a", 1, "b", 2, "c", 3), (key, value) -> {
+                        String outer = Thread.currentThread().getName();
+                        return fanOut.mapValues(Map.of("x", 1, "y", 2, "z", 3), (k, v) -> {
+                            Assertions.assertEquals(outer, Thread.currentThread().getName());
+                            return k;
+                        }).values().stream().toList();
+                    }));
+            Assertions.assertEquals(3, results.size());
+            results.values().forEach(nested -> Assertions.assertEquals(3, nested.size()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectedSubmissionsWaitForSubmittedOperations() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        try {
+            FanOut fanOut = new FanOut(new ManualMorphiaConfig()
+                    .parallelism(3)
+                    .executor(executor));
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean finished = new AtomicBoolean();
+
+            Assertions.assertThrows(RejectedExecutionException.class, () -> fanOut.forEach(List.of(1, 2, 3), input -> {
+                started.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.set(true);
+            }));
+            Assertions.assertEquals(0, started.getCount());
+            Assertions.assertTrue(finished.get());
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void workersSeeTheCallersScope() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FanOut fanOut = new FanOut(new ManualMorphiaConfig()
+                    .parallelism(2)
+                    .executor(executor));
+            DecodeScope scope = DecodeScope.of(true);
+            MorphiaDatastore datastore = getDs();
+            ReferenceBatch batch = new ReferenceBatch(datastore);
+
+            Map<String, Boolean> results = batch.within(() -> scope.within(() -> fanOut.mapValues(Map.of("a", 1, "b", 2), (key, value) -> {
+                ReferenceBatch current = ReferenceBatch.current();
+                return DecodeScope.current() == scope && current != null && current != batch && current.getDatastore() == datastore;
+            })));
+            Assertions.assertEquals(Map.of("a", true, "b", true), results);
+            Assertions.assertNull(DecodeScope.current());
+            Assertions.assertNull(ReferenceBatch.current());
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -25,9 +25,11 @@ import java.util.Set;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Property;
+import dev.morphia.internal.PathCache;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CityPopulation;
@@ -61,6 +63,58 @@ public class PathTargetTest extends TestBase {
         });
     }
 
+    @Test
+    public void cachedResolutions() {
+        withTestConfig(List.of(State.class, CityPopulation.class), () -> {
+            Mapper mapper = getMapper();
+            PathCache cache = mapper.getEntityModel(State.class).getPathCache();
+            long hits = cache.hits();
+            long misses = cache.misses();
+
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals("biggestCity.pop", new PathTarget(mapper, State.class, "biggestCity.population").translatedPath());
+            }
+            Assertions.assertEquals(misses + 1, cache.misses());
+            Assertions.assertEquals(hits + 2, cache.hits());
+
+            for (int i = 0; i < 2; i++) {
+                Assertions.assertThrows(ValidationException.class,
+                        () -> new PathTarget(mapper, State.class, "biggestCity.nope").translatedPath());
+            }
+            Assertions.assertEquals("biggestCity.nope",
+                    new PathTarget(mapper, State.class, "biggestCity.nope", false).translatedPath());
+            Assertions.assertEquals(misses + 3, cache.misses());
+            Assertions.assertEquals(hits + 3, cache.hits());
+        });
+    }
+
+    @Test
+    public void lateRegistrations() {
+        withTestConfig(List.of(State.class, CityPopulation.class, HoldsAnInterface.class, MappedInterface.class,
+                InterfaceTypeA.class), () -> {
+                    Mapper mapper = getMapper();
+                    PathCache stateCache = mapper.getEntityModel(State.class).getPathCache();
+                    PathCache holderCache = mapper.getEntityModel(HoldsAnInterface.class).getPathCache();
+
+                    Assertions.assertEquals("biggestCity.pop",
+                            new PathTarget(mapper, State.class, "biggestCity.population").translatedPath());
+                    Assertions.assertThrows(ValidationException.class,
+                            () -> new PathTarget(mapper, HoldsAnInterface.class, "mapped.value").translatedPath());
+                    Assertions.assertEquals(1, stateCache.size());
+                    Assertions.assertEquals(1, holderCache.size());
+
+                    mapper.map(FatherEntity.class);
+                    Assertions.assertEquals(1, stateCache.size());
+                    Assertions.assertEquals(1, holderCache.size());
+
+                    mapper.map(InterfaceTypeB.class);
+                    Assertions.assertEquals(1, stateCache.size());
+                    Assertions.assertEquals(0, holderCache.size());
+                    Assertions.assertEquals("mapped.value",
+                            new PathTarget(mapper, HoldsAnInterface.class, "mapped.value").translatedPath());
+                });
+    }
+
     @Test
     public void disableValidation() {
         withTestConfig(List.of(FatherEntity.class), () -> {
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.updates.UpdateOperators.set;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
@@ -69,6 +70,63 @@ public class TestLifecycles extends TestBase {
         });
     }
 
+    @Test
+    public void listenersEditingDocuments() {
+        withTestConfig(List.of(DocumentEditor.class), () -> {
+            DocumentEditor editor = new DocumentEditor();
+            editor.name = "original";
+            getDs().save(editor);
+
+            Document stored = getDs().getCollection(DocumentEditor.class)
+                    .withDocumentClass(Document.class)
+                    .find(new Document("_id", editor.id))
+                    .first();
+            Assertions.assertEquals("persisted", stored.getString("stamp"));
+            Assertions.assertEquals("original", stored.getString("name"));
+
+            DocumentEditor loaded = getDs().find(DocumentEditor.class)
+                    .filter(eq("_id", editor.id))
+                    .first();
+            Assertions.assertEquals("renamed", loaded.name);
+        });
+    }
+
+    @Test
+    public void rawDecodingOnly() {
+        withTestConfig(List.of(PathRecorder.class), () -> {
+            PathRecorder recorder = new PathRecorder();
+            getDs().save(recorder);
+            // entities are still encoded through a Document which listeners may edit
+            Assertions.assertEquals(Document.class, recorder.persisted);
+
+            PathRecorder loaded = getDs().find(PathRecorder.class)
+                    .filter(eq("_id", recorder.id))
+                    .first();
+            // but are decoded from the raw bytes with listeners handed a lazy view of them
+            Assertions.assertNotEquals(Document.class, loaded.loaded);
+            Assertions.assertTrue(Document.class.isAssignableFrom(loaded.loaded));
+        });
+    }
+
+    @Test
+    public void lifecycleEntitiesInUpdatesAndFilters() {
+        LifecyleA a = new LifecyleA();
+        getDs().save(a);
+
+        LifecycleB b = new LifecycleB();
+        getDs().find(LifecyleA.class)
+                .filter(eq("_id", a.id))
+                .update(set("b", b));
+        Assertions.assertTrue(b.isPrePersist());
+        Assertions.assertTrue(b.isPostPersist());
+
+        LifecyleA found = getDs().find(LifecyleA.class)
+                .filter(eq("b", new LifecycleB()))
+                .first();
+        Assertions.assertNotNull(found);
+        Assertions.assertEquals(a.id, found.id);
+    }
+
     @Test
     public void testCallbackMethods() {
         LifecyleA a = new LifecyleA();
@@ -247,6 +305,43 @@ public class TestLifecycles extends TestBase {
         private String mustFailValidation;
     }
 
+    @Entity
+    private static class DocumentEditor {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        @PrePersist
+        void stamp(Document document) {
+            document.put("stamp", "persisted");
+        }
+
+        @PreLoad
+        void rename(Document document) {
+            document.put("name", "renamed");
+        }
+    }
+
+    @Entity
+    private static class PathRecorder {
+        @Id
+        private ObjectId id;
+        @Transient
+        private Class<?> persisted;
+        @Transient
+        private Class<?> loaded;
+
+        @PostPersist
+        void persisted(Document document) {
+            persisted = document.getClass();
+        }
+
+        @PostLoad
+        void loaded(Document document) {
+            loaded = document.getClass();
+        }
+    }
+
     @Entity
     private static class LifecycleB extends Callbacks {
     }
@@ -53,6 +53,7 @@ import dev.morphia.test.models.errors.nonstaticinner.OuterClass.NonStaticInnerCl
 import dev.morphia.test.models.errors.twoIds.TwoIds;
 import dev.morphia.test.models.errors.unannotated.UnannotatedEntity;
 import dev.morphia.test.models.errors.unannotated.external.ThirdPartyEmbedded;
+import dev.morphia.test.models.errors.unknownConcern.UnknownConcern;
 import dev.morphia.test.models.external.HoldsUnannotated;
 import dev.morphia.test.models.external.ThirdPartyEmbeddedProxy;
 import dev.morphia.test.models.external.ThirdPartyEntity;
@@ -160,6 +161,13 @@ public class TestMapping extends TestBase {
         });
     }
 
+    @Test
+    public void unknownWriteConcern() {
+        MappingException exception = Assertions.assertThrows(MappingException.class, () -> getMapper().map(UnknownConcern.class));
+        Assertions.assertTrue(exception.getMessage().contains("BOGUS"), exception.getMessage());
+        Assertions.assertFalse(getMapper().isMapped(UnknownConcern.class));
+    }
+
     @Test
     public void propertyNaming() {
         verify(NamingStrategy.identity(), "embeddedValues", "intList");
@@ -10,6 +10,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.mongodb.DBRef;
@@ -27,6 +29,7 @@ import dev.morphia.annotations.Reference;
 import dev.morphia.config.MorphiaConfig;
 import dev.morphia.mapping.PropertyDiscovery;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.query.FindOptions;
 import dev.morphia.test.models.Author;
 import dev.morphia.test.models.Book;
 import dev.morphia.test.models.FacebookUser;
@@ -203,6 +206,70 @@ public class TestReferences extends ProxyTestBase {
                 .forEach(f -> Assertions.assertEquals(DBRef.class, f.getClass()));
     }
 
+    @Test
+    public void testBatchedReferences() {
+        List<Ref> refs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            refs.add(new Ref("ref" + i));
+        }
+        getDs().save(refs);
+
+        List<Container> containers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<Ref> list = new ArrayList<>(refs.subList(i % refs.size(), refs.size()));
+            containers.add(new Container(list));
+        }
+        getDs().save(containers);
+
+        List<Container> loaded = getDs().find(Container.class, new FindOptions().batchSize(3))
+                .iterator()
+                .toList();
+        Assertions.assertEquals(containers.size(), loaded.size());
+        for (Container container : loaded) {
+            Container expected = containers.stream()
+                    .filter(c -> c.getId().equals(container.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            Assertions.assertEquals(expected.getSingleRef(), container.getSingleRef());
+            Assertions.assertEquals(expected.getCollectionRef(), container.getCollectionRef());
+            Assertions.assertEquals(expected.getMapRef(), container.getMapRef());
+            assertListEquals(expected.getLazyCollectionRef(), container.getLazyCollectionRef());
+            Assertions.assertEquals(expected.getLazySingleRef().getId(), container.getLazySingleRef().getId());
+        }
+    }
+
+    @Test
+    public void testParallelFetches() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        try {
+            withConfig(buildConfig(Mixed.class)
+                    .parallelism(2)
+                    .executor(executor), () -> {
+                        Entity1 first = new Entity1("first");
+                        Entity1 second = new Entity1("second");
+                        Entity2 third = new Entity2("third", first);
+                        getDs().insert(List.of(first, second, third));
+                        Assertions.assertTrue(executor.getTaskCount() > 0);
+
+                        Mixed mixed = new Mixed();
+                        mixed.list = List.of(first, third, second);
+                        mixed.map = new LinkedHashMap<>(Map.of("first", first, "third", third));
+                        getDs().save(mixed);
+
+                        long submitted = executor.getTaskCount();
+                        Mixed loaded = getDs().find(Mixed.class).first();
+                        Assertions.assertEquals(List.of("first", "third", "second"), loaded.list.stream()
+                                .map(e -> e instanceof Entity1 ? ((Entity1) e).getName() : ((Entity2) e).getAnotherName())
+                                .toList());
+                        Assertions.assertEquals(first.getId(), loaded.map.get("first").getId());
+                        Assertions.assertEquals(third.getId(), loaded.map.get("third").getId());
+                        Assertions.assertTrue(executor.getTaskCount() > submitted);
+                    });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testEqWithNull() {
         getDs().find(Container.class)
@@ -1013,6 +1080,16 @@ public class TestReferences extends ProxyTestBase {
         }
     }
 
+    @Entity
+    private static class Mixed {
+        @Id
+        private ObjectId id;
+        @Reference
+        private List<EntityBase> list;
+        @Reference
+        private Map<String, EntityBase> map;
+    }
+
     @Entity(useDiscriminator = false)
     private static class Org {
         @Id
@@ -25,7 +25,9 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.internal.ConstructorCreator;
+import dev.morphia.mapping.internal.ConstructorPlan;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaCursor;
 import dev.morphia.test.TestBase;
@@ -93,6 +95,32 @@ public class ConstructorCreatorTest extends TestBase {
         Assertions.assertEquals(0, constructor.getParameterCount());
     }
 
+    @Test
+    public void sharedPlan() {
+        EntityModel model = getDs().getMapper().map(AllProps.class).get(0);
+        ConstructorPlan plan = new ConstructorPlan(model, ConstructorCreator.bestConstructor(model));
+        Assertions.assertEquals(-1, plan.slot("missing"));
+
+        ObjectId id = new ObjectId();
+        ConstructorCreator first = new ConstructorCreator(plan, getMapper().getConversions());
+        first.set(id, model.getProperty("id"));
+        first.set("first", model.getProperty("name"));
+        first.set(1, model.getProperty("count"));
+
+        ConstructorCreator second = new ConstructorCreator(plan, getMapper().getConversions());
+        second.set("second", model.getProperty("name"));
+
+        AllProps one = (AllProps) first.getInstance();
+        AllProps two = (AllProps) second.getInstance();
+        Assertions.assertNotSame(one, two);
+        Assertions.assertEquals(id, one.id);
+        Assertions.assertEquals("first", one.name);
+        Assertions.assertEquals(1, one.count);
+        Assertions.assertNull(two.id);
+        Assertions.assertEquals("second", two.name);
+        Assertions.assertEquals(0, two.count);
+    }
+
     @Test
     public void typeConversions() {
         getMapper().map(MyEntity.class, EmbeddedEntity.class);
@@ -8,6 +8,16 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.test.TestBase;
 
+import org.bson.BsonArray;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -48,6 +58,72 @@ public class DoubleMappingTest extends TestBase {
         Assertions.assertArrayEquals(ent.nestedWrapperArray, loaded.nestedWrapperArray);
     }
 
+    @Test
+    public void testCompactLists() {
+        withConfig(buildConfig(Series.class).compactNumericLists(true), () -> {
+            Series series = new Series();
+            for (int i = 0; i < 1000; i++) {
+                series.values.add(i / 4.0);
+                series.counts.add(i);
+                series.stamps.add(i * 1000L);
+            }
+            series.sparse.addAll(Arrays.asList(1.5, null, 2.5));
+            series.copied.addAll(Arrays.asList(1, 2));
+            getDs().save(series);
+
+            Series loaded = getDs().find(Series.class)
+                    .filter(eq("_id", series.id))
+                    .first();
+            Assertions.assertEquals(series.values, loaded.values);
+            Assertions.assertEquals(series.counts, loaded.counts);
+            Assertions.assertEquals(series.stamps, loaded.stamps);
+            Assertions.assertEquals(series.sparse, loaded.sparse);
+            Assertions.assertEquals(series.copied, loaded.copied);
+            Assertions.assertFalse(loaded.values instanceof ArrayList, "Numeric lists should be decoded in to compact lists");
+            Assertions.assertTrue(loaded.sparse instanceof ArrayList, "Lists holding nulls should fall back to ArrayList");
+            Assertions.assertTrue(loaded.copied instanceof ArrayList, "Concrete list types should be kept");
+
+            loaded.values.add(0, -1.0);
+            loaded.values.remove(loaded.values.size() - 1);
+            getDs().save(loaded);
+            Assertions.assertEquals(loaded.values, getDs().find(Series.class)
+                    .filter(eq("_id", series.id))
+                    .first().values);
+        });
+    }
+
+    @Entity
+    private static class Series {
+        private final List<Double> values = new ArrayList<>();
+        private final List<Integer> counts = new ArrayList<>();
+        private final List<Long> stamps = new ArrayList<>();
+        private final List<Double> sparse = new ArrayList<>();
+        private final ArrayList<Integer> copied = new ArrayList<>();
+        @Id
+        private ObjectId id;
+    }
+
+    @Test
+    public void testMixedNumericTypes() {
+        BsonArray mixed = new BsonArray(List.of(new BsonInt32(1), new BsonInt64(2),
+                new BsonDouble(3.5), new BsonDecimal128(Decimal128.parse("4.25"))));
+        Assertions.assertArrayEquals(new double[] { 1, 2, 3.5, 4.25 }, decode(mixed));
+        Assertions.assertThrows(BsonInvalidOperationException.class,
+                () -> decode(new BsonArray(List.of(new BsonInt64(Long.MAX_VALUE - 1)))));
+        Assertions.assertThrows(BsonInvalidOperationException.class,
+                () -> decode(new BsonArray(List.of(new BsonDecimal128(Decimal128.parse("0.1"))))));
+        Assertions.assertThrows(BsonInvalidOperationException.class,
+                () -> decode(new BsonArray(List.of(new BsonDecimal128(Decimal128.NaN)))));
+    }
+
+    private double[] decode(BsonArray values) {
+        try (BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("values", values))) {
+            reader.readStartDocument();
+            reader.readName();
+            return getDs().getCodecRegistry().get(double[].class).decode(reader, DecoderContext.builder().build());
+        }
+    }
+
     @Entity
     private static class Doubles {
         private final List<Double[]> listWrapperArray = new ArrayList<>();
@@ -8,6 +8,16 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.test.TestBase;
 
+import org.bson.BsonArray;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -47,6 +57,25 @@ public class LongMappingTest extends TestBase {
         Assertions.assertArrayEquals(ent.nestedWrapperArray, loaded.nestedWrapperArray);
     }
 
+    @Test
+    public void testMixedNumericTypes() {
+        BsonArray mixed = new BsonArray(List.of(new BsonInt32(1), new BsonInt64(Long.MAX_VALUE),
+                new BsonDouble(3.0), new BsonDecimal128(Decimal128.parse("4"))));
+        Assertions.assertArrayEquals(new long[] { 1, Long.MAX_VALUE, 3, 4 }, decode(mixed));
+        Assertions.assertThrows(BsonInvalidOperationException.class, () -> decode(new BsonArray(List.of(new BsonDouble(1.5)))));
+        Assertions.assertThrows(BsonInvalidOperationException.class, () -> decode(new BsonArray(List.of(new BsonDouble(1e19)))));
+        Assertions.assertThrows(BsonInvalidOperationException.class,
+                () -> decode(new BsonArray(List.of(new BsonDecimal128(Decimal128.parse("1.5"))))));
+    }
+
+    private long[] decode(BsonArray values) {
+        try (BsonDocumentReader reader = new BsonDocumentReader(new BsonDocument("values", values))) {
+            reader.readStartDocument();
+            reader.readName();
+            return getDs().getCodecRegistry().get(long[].class).decode(reader, DecoderContext.builder().build());
+        }
+    }
+
     @Entity
     private static class Longs {
         private final List<Long[]> listWrapperArray = new ArrayList<>();
@@ -0,0 +1,10 @@
+package dev.morphia.test.models.errors.unknownConcern;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+@Entity(concern = "BOGUS")
+public class UnknownConcern {
+    @Id
+    private String id;
+}
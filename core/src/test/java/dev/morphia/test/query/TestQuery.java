@@ -3,9 +3,11 @@ package dev.morphia.test.query;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.concurrent.Executors;
@@ -16,6 +18,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.mongodb.CursorType;
+import com.mongodb.MongoException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -23,6 +26,7 @@ import com.mongodb.client.model.CollationStrength;
 
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
 import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -31,9 +35,18 @@ import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Version;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.MorphiaCursor;
+import dev.morphia.query.Page;
+import dev.morphia.query.Pages;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
+import dev.morphia.query.QueryException;
+import dev.morphia.query.ReadAheadStatistics;
 import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
@@ -50,6 +63,7 @@ import org.junit.jupiter.api.Test;
 
 import static com.mongodb.client.model.Collation.builder;
 import static dev.morphia.query.ArraySlice.limit;
+import static dev.morphia.query.Parameter.param;
 import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.Sort.descending;
 import static dev.morphia.query.Sort.naturalAscending;
@@ -64,6 +78,7 @@ import static dev.morphia.query.filters.Filters.lt;
 import static dev.morphia.query.filters.Filters.ne;
 import static dev.morphia.query.filters.Filters.or;
 import static dev.morphia.query.filters.Filters.regex;
+import static dev.morphia.query.updates.UpdateOperators.set;
 import static java.time.LocalDate.now;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
@@ -356,6 +371,235 @@ public class TestQuery extends TestBase {
         Assertions.assertEquals(3, q.count());
     }
 
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        PreparedQuery<Rectangle> prepared = getDs().find(Rectangle.class)
+                .filter(or(eq("width", param("width")),
+                        and(eq("width", 5),
+                                eq("height", param("height")))))
+                .prepare();
+
+        Assertions.assertEquals(List.of("width", "height"), prepared.getParameterNames());
+        Assertions.assertEquals(3, prepared.bind(Map.of("width", 10, "height", 8)).count());
+        Assertions.assertEquals(1, prepared.bind(Map.of("width", 2, "height", 1)).count());
+        Assertions.assertEquals(4.0, prepared.bind(Map.of("width", 2, "height", 1)).first().getHeight());
+
+        String template = prepared.getTemplate().toJson();
+        Query<Rectangle> first = prepared.bind(Map.of("width", 10, "height", 8));
+        Query<Rectangle> second = prepared.bind(Map.of("width", 2, "height", 1));
+        Assertions.assertEquals(template, prepared.getTemplate().toJson());
+        Assertions.assertEquals(3, first.count());
+        Assertions.assertEquals(1, second.count());
+
+        Assertions.assertThrows(QueryException.class, () -> prepared.bind(Map.of("width", 10)));
+        Assertions.assertThrows(QueryException.class, () -> getDs().find(Rectangle.class)
+                .filter(eq("width", param("width")))
+                .count());
+    }
+
+    @Test
+    public void testKeysetPages() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4),
+                new Rectangle(3, 10), new Rectangle(7, 2)));
+
+        List<Rectangle> expected = getDs().find(Rectangle.class, new FindOptions().sort(descending("width"), ascending("_id")))
+                .filter(gt("height", 1))
+                .iterator()
+                .toList();
+        Query<Rectangle> query = getDs().find(Rectangle.class)
+                .filter(gt("height", 1));
+
+        Pages<Rectangle> pages = query.pages(2, descending("width"));
+        List<Rectangle> paged = new ArrayList<>();
+        int count = 0;
+        for (Page<Rectangle> page : pages) {
+            Assertions.assertTrue(page.items().size() <= 2);
+            paged.addAll(page.items());
+            count++;
+        }
+        Assertions.assertEquals(3, count);
+        Assertions.assertEquals(expected, paged);
+
+        Page<Rectangle> first = pages.first();
+        Assertions.assertEquals(expected.subList(2, 4), pages.after(first.next()).items());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> query.pages(2, ascending("width")).after(first.next()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> pages.after("not a token"));
+    }
+
+    @Test
+    public void testKeysetPagesOfSeededQueries() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4),
+                new Rectangle(3, 1), new Rectangle(7, 2)));
+
+        List<Rectangle> expected = getDs().find(Rectangle.class, new FindOptions().sort(descending("width"), ascending("_id")))
+                .filter(gt("height", 1))
+                .iterator()
+                .toList();
+        // a top level $or which the page filters must not collide with
+        Document seed = new Document("$or", List.of(new Document("h", new Document("$gt", 1)), new Document("w", 100)));
+
+        List<Rectangle> paged = new ArrayList<>();
+        for (Page<Rectangle> page : getDs().find(Rectangle.class, seed).pages(2, descending("width"))) {
+            paged.addAll(page.items());
+        }
+        Assertions.assertEquals(expected, paged);
+    }
+
+    @Test
+    public void testKeysetPagesOfLazyEntities() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        List<Double> expected = getDs().find(Rectangle.class, new FindOptions().sort(ascending("width"), ascending("_id")))
+                .iterator()
+                .toList()
+                .stream()
+                .map(Rectangle::getWidth)
+                .toList();
+        Pages<Rectangle> pages = getDs().find(Rectangle.class, new FindOptions().lazy(true))
+                .pages(2, ascending("width"));
+        List<Double> paged = new ArrayList<>();
+        for (Page<Rectangle> page : pages) {
+            page.items().forEach(rectangle -> {
+                Assertions.assertInstanceOf(LazyEntity.Proxy.class, rectangle);
+                paged.add(rectangle.getWidth());
+            });
+        }
+        Assertions.assertEquals(expected, paged);
+    }
+
+    @Test
+    public void testParallelStream() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 10, i));
+        }
+        getDs().save(rectangles);
+
+        Query<Rectangle> query = getDs().find(Rectangle.class)
+                .filter(gt("height", 2));
+        List<Rectangle> expected = query.iterator().toList();
+        try (var stream = query.parallelStream(4)) {
+            List<Rectangle> streamed = stream.collect(Collectors.toList());
+            Assertions.assertEquals(expected.size(), streamed.size());
+            Assertions.assertTrue(streamed.containsAll(expected));
+        }
+        try (var stream = query.parallelStream(1)) {
+            Assertions.assertEquals(expected.size(), stream.count());
+        }
+    }
+
+    @Test
+    public void testParallelStreamOfMixedIds() {
+        MongoCollection<Document> collection = getDatabase().getCollection("mixed");
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            documents.add(new Document("_id", i));
+            documents.add(new Document("_id", "id" + i));
+            documents.add(new Document("_id", new ObjectId()));
+        }
+        collection.insertMany(documents);
+
+        try (var stream = getDs().find("mixed", Document.class).parallelStream(4)) {
+            List<Object> ids = stream.map(document -> document.get("_id")).collect(Collectors.toList());
+            Assertions.assertEquals(150, ids.size());
+            Assertions.assertEquals(150, new HashSet<>(ids).size());
+        }
+    }
+
+    @Test
+    public void testReadAhead() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 10, i));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> expected = getDs().find(Rectangle.class, new FindOptions().sort(ascending("height")))
+                .iterator()
+                .toList();
+        try (MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class, new FindOptions()
+                .sort(ascending("height"))
+                .batchSize(10)
+                .readAhead(5))
+                .iterator()) {
+            List<Rectangle> read = new ArrayList<>();
+            while (cursor.hasNext()) {
+                read.add(cursor.next());
+            }
+            Assertions.assertEquals(expected, read);
+            ReadAheadStatistics statistics = cursor.getReadAheadStatistics();
+            Assertions.assertNotNull(statistics);
+            Assertions.assertEquals(5, statistics.capacity());
+            Assertions.assertTrue(statistics.maxDepth() <= 5);
+        }
+        try (MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class, new FindOptions().readAhead(5)).iterator()) {
+            Assertions.assertNotNull(cursor.next());
+        }
+        Assertions.assertNull(getDs().find(Rectangle.class).iterator().getReadAheadStatistics());
+    }
+
+    @Test
+    public void testReadAheadFailures() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        rectangles.add(new Rectangle(21, 0));
+        getDs().save(rectangles);
+
+        // dividing by the last width fails on the server while the background thread is fetching a later batch
+        Document failing = new Document("$expr", new Document("$gt", List.of(new Document("$divide", List.of(10, "$w")), 0)));
+        try (MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class, failing, new FindOptions()
+                .batchSize(2)
+                .readAhead(4))
+                .iterator()) {
+            Assertions.assertNotNull(cursor.next());
+            MongoException exception = Assertions.assertThrows(MongoException.class, () -> {
+                while (cursor.hasNext()) {
+                    cursor.next();
+                }
+            });
+            Assertions.assertTrue(exception.getMessage().contains("divide"), exception.getMessage());
+            Assertions.assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testReadAheadEarlyClose() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rectangles.add(new Rectangle(i % 10, i));
+        }
+        getDs().save(rectangles);
+
+        MorphiaCursor<Rectangle> cursor = getDs().find(Rectangle.class, new FindOptions()
+                .batchSize(10)
+                .readAhead(5))
+                .iterator();
+        Assertions.assertNotNull(cursor.next());
+        cursor.close();
+
+        Assertions.assertFalse(cursor.hasNext());
+        Assertions.assertNull(cursor.tryNext());
+        Assertions.assertThrows(NoSuchElementException.class, cursor::next);
+    }
+
+    @Test
+    public void testRepeatedFieldsMerge() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        Query<Rectangle> query = getDs().find(Rectangle.class)
+                .filter(gt("width", 2), lt("width", 10));
+        Assertions.assertEquals(2, query.count());
+
+        query.update(new UpdateOptions().multi(true), set("height", 3), set("width", 7));
+        Assertions.assertEquals(2, getDs().find(Rectangle.class)
+                .filter(eq("height", 3), eq("width", 7))
+                .count());
+    }
+
     @Test
     public void testCommentsShowUpInLogs() {
         getDs().save(asList(new Pic("pic1"), new Pic("pic2"), new Pic("pic3"), new Pic("pic4")));
@@ -871,6 +1115,50 @@ public class TestQuery extends TestBase {
         Query<ContainsRenamedFields> query = getDs().find(ContainsRenamedFields.class);
     }
 
+    @Test
+    public void testLazyEntities() {
+        Review review = getDs().save(new Review("Dune", 5));
+
+        Review lazy = getDs().find(Review.class, new FindOptions().lazy(true)).first();
+        Assertions.assertFalse(((MorphiaProxy) lazy).isFetched());
+        Assertions.assertEquals(review.id, lazy.id);
+        Assertions.assertNull(lazy.title);
+        Assertions.assertEquals("Dune", lazy.getTitle());
+        Assertions.assertTrue(((MorphiaProxy) lazy).isFetched());
+        Assertions.assertEquals(5, lazy.stars);
+
+        lazy = getDs().find(Review.class, new FindOptions().lazy(true)).first();
+        getDs().save(lazy);
+        Review saved = getDs().find(Review.class).first();
+        Assertions.assertFalse(saved instanceof MorphiaProxy);
+        Assertions.assertEquals("Dune", saved.title);
+        Assertions.assertEquals(5, saved.stars);
+
+        getDs().save(new LazyReview("Emma", 4));
+        LazyReview annotated = getDs().find(LazyReview.class).first();
+        Assertions.assertFalse(((MorphiaProxy) annotated).isFetched());
+        Assertions.assertEquals(4, annotated.getStars());
+    }
+
+    @Test
+    public void testLazyVersionedEntities() {
+        getDs().save(new VersionedReview("Dune"));
+
+        VersionedReview lazy = getDs().find(VersionedReview.class, new FindOptions().lazy(true)).first();
+        Assertions.assertFalse(((MorphiaProxy) lazy).isFetched());
+        getDs().save(lazy);
+        Assertions.assertEquals(2L, lazy.version);
+        Assertions.assertEquals(1, getDs().find(VersionedReview.class).count());
+
+        lazy = getDs().find(VersionedReview.class, new FindOptions().lazy(true)).first();
+        getDs().replace(lazy);
+        Assertions.assertEquals(3L, lazy.version);
+
+        VersionedReview saved = getDs().find(VersionedReview.class).first();
+        Assertions.assertEquals(3L, saved.version);
+        Assertions.assertEquals("Dune", saved.title);
+    }
+
     @Test
     public void testProjectArrayField() {
         int[] ints = { 0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30 };
@@ -1521,6 +1809,16 @@ public class TestQuery extends TestBase {
         }
     }
 
+    @Entity(lazy = true)
+    public static class LazyReview extends Review {
+        public LazyReview() {
+        }
+
+        LazyReview(String title, int stars) {
+            super(title, stars);
+        }
+    }
+
     @Entity
     public static class Pic {
         @Id
@@ -1601,6 +1899,46 @@ public class TestQuery extends TestBase {
         private String name;
     }
 
+    @Entity
+    public static class Review {
+        @Id
+        private ObjectId id;
+        private String title;
+        private int stars;
+
+        public Review() {
+        }
+
+        Review(String title, int stars) {
+            this.title = title;
+            this.stars = stars;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public int getStars() {
+            return stars;
+        }
+    }
+
+    @Entity
+    public static class VersionedReview {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+        private String title;
+
+        public VersionedReview() {
+        }
+
+        VersionedReview(String title) {
+            this.title = title;
+        }
+    }
+
     private static class RectangleComparator implements Comparator<Rectangle> {
         @Override
         public int compare(Rectangle o1, Rectangle o2) {
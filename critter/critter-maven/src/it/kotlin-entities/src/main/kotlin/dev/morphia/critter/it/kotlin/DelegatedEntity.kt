@@ -0,0 +1,12 @@
+package dev.morphia.critter.it.kotlin
+
+import dev.morphia.annotations.Entity
+import dev.morphia.annotations.Id
+import kotlin.properties.Delegates
+
+@Entity
+class DelegatedEntity {
+    @Id
+    private var id: String = ""
+    var status: String by Delegates.notNull()
+}
@@ -1,13 +1,15 @@
 // Verify that the critter plugin generated EntityModel, PropertyModel, and accessor classes
-// for Kotlin entities: KotlinEntity, CompanionEntity, and PropertyEntity.
+// for Kotlin entities: KotlinEntity, CompanionEntity, PropertyEntity, and DelegatedEntity.
 // Also verifies that the computed property 'fullName' on PropertyEntity (no backing field)
 // does NOT generate an accessor, and that the companion object constant is not treated as
-// a mappable field.
+// a mappable field. Delegated properties are mapped by name through their getter and setter
+// rather than as their delegate field.
 
 def basePackagePath = "dev/morphia/critter/it/kotlin"
 def kotlinEntityMorphiaPath = "${basePackagePath}/__morphia/kotlinentity"
 def companionEntityMorphiaPath = "${basePackagePath}/__morphia/companionentity"
 def propertyEntityMorphiaPath = "${basePackagePath}/__morphia/propertyentity"
+def delegatedEntityMorphiaPath = "${basePackagePath}/__morphia/delegatedentity"
 
 File outputDir = new File(basedir, "target/generated-classes/critter")
 assert outputDir.exists() : "Generated classes directory should exist: ${outputDir.absolutePath}"
@@ -61,5 +63,21 @@ File fullNameModel = new File(outputDir, "${propertyEntityMorphiaPath}/FullNameM
 assert !fullNameModel.exists() : "Computed property 'fullName' should NOT generate FullNameModel.class (no backing field)"
 println "OK: PropertyEntity computed property 'fullName' did not generate an accessor"
 
+// ── DelegatedEntity EntityModel ───────────────────────────────────────────────
+
+File delegatedEntityModel = new File(outputDir, "${delegatedEntityMorphiaPath}/DelegatedEntityEntityModel.class")
+assert delegatedEntityModel.exists() : "DelegatedEntityEntityModel.class should be generated at ${delegatedEntityModel.absolutePath}"
+println "OK: DelegatedEntityEntityModel.class"
+
+// the delegated property is accessed through getStatus()/setStatus() rather than KProperty reflection
+for (file in ["StatusModel", "StatusAccessor"]) {
+    File generated = new File(outputDir, "${delegatedEntityMorphiaPath}/${file}.class")
+    assert generated.exists() : "${file}.class should be generated for DelegatedEntity at ${generated.absolutePath}"
+    println "OK: DelegatedEntity ${file}.class"
+}
+File delegateFieldModel = new File(outputDir, "${delegatedEntityMorphiaPath}/Status\$delegateModel.class")
+assert !delegateFieldModel.exists() : "The delegate field should NOT be mapped as a property"
+println "OK: DelegatedEntity delegate field is not mapped"
+
 println "All Kotlin entity generation checks passed."
 return true
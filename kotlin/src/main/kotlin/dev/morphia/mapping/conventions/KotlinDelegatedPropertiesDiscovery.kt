@@ -2,8 +2,10 @@ package dev.morphia.mapping.conventions
 
 import dev.morphia.mapping.Mapper
 import dev.morphia.mapping.codec.pojo.EntityModel
+import dev.morphia.mapping.codec.pojo.TypeData
 import kotlin.reflect.KMutableProperty
 import kotlin.reflect.KProperty
+import kotlin.reflect.jvm.javaType
 
 class KotlinDelegatedPropertiesDiscovery : MorphiaConvention {
     @Suppress("UNCHECKED_CAST")
@@ -14,7 +16,9 @@ class KotlinDelegatedPropertiesDiscovery : MorphiaConvention {
                 field.trySetAccessible()
                 for (kProperty in field.get(model.type) as Array<KProperty<*>>) {
                     val property = model.getProperty("${kProperty.name}\$delegate") ?: continue
+                    // the accessor hands over the property's value rather than its delegate so the value's codec is used directly
                     property
+                        .typeData(TypeData.get(kProperty.returnType.javaType))
                         .name(kProperty.name)
                         .mappedName(FieldDiscovery.discoverMappedName(mapper, property))
                         .accessor(ReadWritePropertyAccessor(kProperty as KMutableProperty<*>))
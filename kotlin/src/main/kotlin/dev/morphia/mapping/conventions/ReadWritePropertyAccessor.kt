@@ -1,26 +1,54 @@
 package dev.morphia.mapping.conventions
 
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Method
 import kotlin.reflect.KMutableProperty
 import kotlin.reflect.jvm.javaField
 import kotlin.reflect.jvm.javaGetter
 import kotlin.reflect.jvm.javaSetter
 import org.bson.codecs.pojo.PropertyAccessor
 
+/**
+ * Reads and writes a delegated property through the getter and setter the Kotlin compiler generates for it. The accessors are bound to
+ * method handles once so each access is a direct call. Properties without accessible accessors, e.g. private properties, are accessed
+ * through `KProperty` reflection instead.
+ */
 class ReadWritePropertyAccessor(private val kProperty: KMutableProperty<*>) :
     PropertyAccessor<Any> {
+    private val getter: MethodHandle?
+    private val setter: MethodHandle?
+
     init {
         kProperty.javaField?.isAccessible = true
         kProperty.javaGetter?.isAccessible = true
         kProperty.javaSetter?.isAccessible = true
+        getter = kProperty.javaGetter?.let { handle(it, MethodType.methodType(Any::class.java, Any::class.java)) }
+        setter = kProperty.javaSetter?.let {
+            handle(it, MethodType.methodType(Void.TYPE, Any::class.java, Any::class.java))
+        }
     }
 
     override fun <S : Any?> get(instance: S): Any? {
-        val getter = kProperty.getter
-        val value = getter.call(instance)
-        return value
+        return if (getter != null) getter.invoke(instance as Any?) as Any? else kProperty.getter.call(instance)
     }
 
     override fun <S : Any?> set(instance: S, value: Any?) {
-        kProperty.setter.call(instance, value)
+        if (setter != null) {
+            setter.invoke(instance as Any?, value)
+        } else {
+            kProperty.setter.call(instance, value)
+        }
+    }
+
+    private companion object {
+        fun handle(method: Method, type: MethodType): MethodHandle? {
+            return try {
+                MethodHandles.lookup().unreflect(method).asType(type)
+            } catch (_: IllegalAccessException) {
+                null
+            }
+        }
     }
 }
@@ -1,13 +1,18 @@
 package dev.morphia.test.kotlin
 
 import dev.morphia.config.ManualMorphiaConfig.configure
+import dev.morphia.mapping.MapperType
+import dev.morphia.mapping.codec.pojo.critter.CritterEntityModel
 import dev.morphia.test.TestBase
 import dev.morphia.test.kotlin.models.DelegatedNull
 import dev.morphia.test.kotlin.models.MyClass
 import dev.morphia.test.kotlin.models.VersionedDataClass
 import org.bson.types.ObjectId
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 
 open class TestKotlinMapping :
@@ -39,4 +44,34 @@ open class TestKotlinMapping :
         assertNotNull(first)
         assertEquals(delegated.status, first?.status)
     }
+
+    @Test
+    fun delegatedValuesUseTheirOwnCodec() {
+        val property = mapper.getEntityModel(DelegatedNull::class.java).getProperty("status")
+
+        assertNotNull(property)
+        assertEquals(String::class.java, property?.type)
+    }
+
+    @Test
+    fun delegatedWithCritter() {
+        withConfig(buildConfig(DelegatedNull::class.java).mapper(MapperType.CRITTER)) {
+            val model = mapper.getEntityModel(DelegatedNull::class.java)
+            assertTrue(model is CritterEntityModel, "Expected a generated model but got ${model.javaClass}")
+            assertNotNull(model.getProperty("status"))
+            assertNull(model.getProperty("status\$delegate"))
+
+            val delegated = DelegatedNull()
+            delegated.status = "generated"
+            ds.save(delegated)
+
+            val document = database.getCollection(model.collectionName()).find().first()
+            assertEquals("generated", document?.getString("status"))
+            assertFalse(document?.containsKey("status\$delegate") ?: true)
+
+            val loaded = ds.find(DelegatedNull::class.java).first()
+            assertEquals(delegated.id, loaded?.id)
+            assertEquals("generated", loaded?.status)
+        }
+    }
 }
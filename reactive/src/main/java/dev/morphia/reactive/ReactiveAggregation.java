@@ -0,0 +1,85 @@
+package dev.morphia.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+
+import dev.morphia.aggregation.stages.Stage;
+import dev.morphia.mapping.codec.writer.DirectWriter;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * An aggregation against a {@link ReactiveDatastore}. Stages are the same ones used with {@link dev.morphia.aggregation.Aggregation} and
+ * are encoded by the same codecs. Nothing is sent to the server until the returned {@link Publisher} is subscribed to.
+ *
+ * @param <T> the source type
+ * @since 3.0
+ */
+public class ReactiveAggregation<T> {
+    private final ReactiveDatastore datastore;
+    private final Class<T> source;
+    private final List<Stage> stages = new ArrayList<>();
+
+    ReactiveAggregation(ReactiveDatastore datastore, Class<T> source) {
+        this.datastore = datastore;
+        this.source = source;
+    }
+
+    /**
+     * Adds stages to the pipeline
+     *
+     * @param stages the stages
+     * @return this
+     */
+    public ReactiveAggregation<T> pipeline(Stage... stages) {
+        this.stages.addAll(List.of(stages));
+        return this;
+    }
+
+    /**
+     * @param resultType the type of the results
+     * @param <R>        the result type
+     * @return a publisher of the results
+     */
+    public <R> Publisher<R> execute(Class<R> resultType) {
+        return execute(resultType, 0);
+    }
+
+    /**
+     * @param resultType the type of the results
+     * @param batchSize  the number of documents to fetch per batch or 0 to size batches from the subscriber's demand
+     * @param <R>        the result type
+     * @return a publisher of the results
+     */
+    public <R> Publisher<R> execute(Class<R> resultType, int batchSize) {
+        return Flux.defer(() -> {
+            datastore.checkReferences(resultType);
+            AggregatePublisher<R> publisher = datastore.getCollection(source)
+                    .aggregate(encodePipeline(), resultType);
+            if (batchSize > 0) {
+                publisher.batchSize(batchSize);
+            }
+            return publisher;
+        });
+    }
+
+    /**
+     * @return the encoded pipeline
+     */
+    public List<Bson> encodePipeline() {
+        List<Bson> pipeline = new ArrayList<>();
+        for (Stage stage : stages) {
+            RawBsonDocument encoded = DirectWriter.encode(datastore.getCodecRegistry(), stage);
+            pipeline.add(encoded != null ? encoded
+                    : DocumentWriter.encode(stage, datastore.getMapper(), datastore.getCodecRegistry()));
+        }
+        return pipeline;
+    }
+}
@@ -0,0 +1,340 @@
+package dev.morphia.reactive;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A datastore built on the MongoDB reactive streams driver. It shares the mapping and the codecs of {@link MorphiaDatastore} but every
+ * operation returns a {@link Publisher} and no thread is held while waiting on the server.
+ * <p>
+ * Query results are streamed from the server cursor as they are requested. Unless a batch size is set on the {@code FindOptions}, the
+ * driver sizes each {@code getMore} from the outstanding demand so a slow subscriber only holds what it has asked for.
+ * <p>
+ * References, lazy or not, are resolved by reading from the database while an entity is decoded. That needs a synchronous client so
+ * entities mapping a {@code @Reference} or a {@code DBRef}, directly or through an embedded type, are rejected with a
+ * {@link MappingException} when they are first used with this datastore.
+ *
+ * @since 3.0
+ */
+public class ReactiveDatastore {
+    private final MongoClient client;
+    private final MorphiaDatastore host;
+    private final MongoDatabase database;
+
+    /**
+     * Creates a new datastore
+     *
+     * @param client the reactive client
+     * @param config the config
+     */
+    public ReactiveDatastore(MongoClient client, MorphiaConfig config) {
+        this(client, config, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Creates a new datastore
+     *
+     * @param client      the reactive client
+     * @param config      the config
+     * @param classLoader the classloader to use for class and resource resolution
+     */
+    public ReactiveDatastore(MongoClient client, MorphiaConfig config, ClassLoader classLoader) {
+        this.client = client;
+        MongoDatabase clientDatabase = client.getDatabase(config.database());
+        host = new MorphiaDatastore(clientDatabase.getCodecRegistry(), config, classLoader);
+        database = clientDatabase.withCodecRegistry(host.getCodecRegistry());
+    }
+
+    /**
+     * @return the reactive client
+     */
+    public MongoClient getClient() {
+        return client;
+    }
+
+    /**
+     * @return the codec registry
+     */
+    public CodecRegistry getCodecRegistry() {
+        return host.getCodecRegistry();
+    }
+
+    /**
+     * @return the database
+     */
+    public MongoDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * @return the mapper
+     */
+    public Mapper getMapper() {
+        return host.getMapper();
+    }
+
+    /**
+     * @param type the mapped type
+     * @param <T>  the type
+     * @return the collection mapped for the type
+     */
+    public <T> MongoCollection<T> getCollection(Class<T> type) {
+        EntityModel model = getMapper().getEntityModel(type);
+        checkReferences(model, new HashSet<>());
+        MongoCollection<T> collection = database.getCollection(model.collectionName(), type);
+
+        WriteConcern writeConcern = model.writeConcern();
+        return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+    }
+
+    /**
+     * @param type the type to query
+     * @param <T>  the type
+     * @return a new query
+     */
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        return new ReactiveQuery<>(this, type);
+    }
+
+    /**
+     * @param source the type to aggregate
+     * @param <T>    the type
+     * @return a new aggregation
+     */
+    public <T> ReactiveAggregation<T> aggregate(Class<T> source) {
+        return new ReactiveAggregation<>(this, source);
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity
+     * @param <T>    the type
+     * @return a publisher of the inserted entity
+     */
+    public <T> Publisher<T> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity  the entity
+     * @param options the options to apply
+     * @param <T>     the type
+     * @return a publisher of the inserted entity
+     */
+    public <T> Publisher<T> insert(T entity, InsertOneOptions options) {
+        return Mono.defer(() -> {
+            MongoCollection<T> collection = configure(entity, options.collection(), options.writeConcern());
+            Version version = Version.bump(getMapper(), entity);
+            return Mono.from(collection.insertOne(entity, options.driver()))
+                    .doOnError(e -> version.rollback())
+                    .thenReturn(entity);
+        });
+    }
+
+    /**
+     * Inserts entities in one command per collection
+     *
+     * @param entities the entities
+     * @param <T>      the type
+     * @return a publisher of the result for each collection written to
+     */
+    public <T> Publisher<InsertManyResult> insert(List<T> entities) {
+        return insert(entities, new InsertManyOptions());
+    }
+
+    /**
+     * Inserts entities in one command per collection
+     *
+     * @param entities the entities
+     * @param options  the options to apply
+     * @param <T>      the type
+     * @return a publisher of the result for each collection written to
+     */
+    public <T> Publisher<InsertManyResult> insert(List<T> entities, InsertManyOptions options) {
+        Map<Class<?>, List<T>> grouped = new LinkedHashMap<>();
+        for (T entity : entities) {
+            grouped.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+        return Flux.fromIterable(grouped.values())
+                .concatMap(list -> {
+                    MongoCollection<T> collection = configure(list.get(0), options.collection(), options.writeConcern());
+                    List<Version> versions = list.stream()
+                            .map(entity -> Version.bump(getMapper(), entity))
+                            .toList();
+                    return Mono.from(collection.insertMany(list, options.driver()))
+                            .doOnError(e -> versions.forEach(Version::rollback));
+                });
+    }
+
+    /**
+     * Saves an entity, inserting it if it has no ID and replacing the stored document otherwise
+     *
+     * @param entity the entity
+     * @param <T>    the type
+     * @return a publisher of the saved entity
+     */
+    public <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Saves an entity, inserting it if it has no ID and replacing the stored document otherwise
+     *
+     * @param entity  the entity
+     * @param options the options to apply
+     * @param <T>     the type
+     * @return a publisher of the saved entity
+     */
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        return Mono.defer(() -> {
+            EntityModel model = getMapper().getEntityModel(entity.getClass());
+            PropertyModel idProperty = model.getIdProperty();
+            Object id = idProperty != null ? idProperty.getValue(entity) : null;
+            MongoCollection<T> collection = configure(entity, options.collection(), options.writeConcern());
+            Version version = Version.bump(getMapper(), entity);
+            if (id == null || version.versioned() && version.updated == 1) {
+                return Mono.from(collection.insertOne(entity, options.driver()))
+                        .doOnError(e -> version.rollback())
+                        .thenReturn(entity);
+            }
+
+            Document filter = new Document("_id", id);
+            if (version.versioned()) {
+                filter.put(version.property.getMappedName(), version.previous);
+            }
+            model.getShardKeys().forEach(property -> filter.put(property.getMappedName(), property.getValue(entity)));
+            ReplaceOptions replaceOptions = new ReplaceOptions()
+                    .bypassDocumentValidation(options.bypassDocumentValidation())
+                    .upsert(!version.versioned());
+
+            return Mono.from(collection.replaceOne(filter, entity, replaceOptions))
+                    .flatMap(result -> version.versioned() && result.getModifiedCount() != 1
+                            ? Mono.<T> error(new VersionMismatchException(entity.getClass(), id))
+                            : Mono.just(entity))
+                    .doOnError(e -> version.rollback());
+        });
+    }
+
+    /**
+     * @return the datastore hosting the mapper and codecs
+     */
+    MorphiaDatastore host() {
+        return host;
+    }
+
+    /**
+     * @param type      the mapped type
+     * @param alternate the collection to use instead of the mapped one
+     * @param <T>       the type
+     * @return the alternate collection if one is given or the collection mapped for the type
+     */
+    <T> MongoCollection<T> getCollection(Class<T> type, @Nullable String alternate) {
+        MongoCollection<T> collection = getCollection(type);
+        return alternate != null ? database.getCollection(alternate, type) : collection;
+    }
+
+    /**
+     * Fails if instances of the type could hold a reference. Types which are not mapped, e.g. {@code Document}, are accepted.
+     *
+     * @param type the type to check
+     */
+    void checkReferences(Class<?> type) {
+        if (getMapper().isMappable(type)) {
+            checkReferences(getMapper().getEntityModel(type), new HashSet<>());
+        }
+    }
+
+    private void checkReferences(EntityModel model, Set<Class<?>> checked) {
+        if (!checked.add(model.getType())) {
+            return;
+        }
+        for (PropertyModel property : model.getProperties()) {
+            if (property.isReference()) {
+                throw new MappingException(Sofia.reactiveReferencesUnsupported(model.getType().getName(), property.getName()));
+            }
+            Class<?> type = property.getNormalizedType();
+            if (getMapper().isMappable(type)) {
+                checkReferences(getMapper().getEntityModel(type), checked);
+            }
+        }
+        for (EntityModel subtype : model.getSubtypes()) {
+            checkReferences(subtype, checked);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MongoCollection<T> configure(T entity, @Nullable String alternate, @Nullable WriteConcern writeConcern) {
+        MongoCollection<T> collection = getCollection((Class<T>) entity.getClass(), alternate);
+        return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+    }
+
+    private static final class Version {
+        private final Object entity;
+        @Nullable
+        private final PropertyModel property;
+        @Nullable
+        private final Long previous;
+        private final long updated;
+
+        private Version(Object entity, @Nullable PropertyModel property, @Nullable Long previous, long updated) {
+            this.entity = entity;
+            this.property = property;
+            this.previous = previous;
+            this.updated = updated;
+        }
+
+        private static Version bump(Mapper mapper, Object entity) {
+            PropertyModel property = mapper.getEntityModel(entity.getClass()).getVersionProperty();
+            if (property == null) {
+                return new Version(entity, null, null, 0);
+            }
+            Long previous = (Long) property.getValue(entity);
+            long updated = previous == null ? 1 : previous + 1;
+            property.setValue(entity, updated);
+            return new Version(entity, property, previous, updated);
+        }
+
+        private boolean versioned() {
+            return property != null;
+        }
+
+        private void rollback() {
+            if (property != null) {
+                property.setValue(entity, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.morphia.reactive;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+import dev.morphia.config.MorphiaConfig;
+
+/**
+ * Entry point for working with Morphia on the reactive streams driver
+ *
+ * @since 3.0
+ */
+public final class ReactiveMorphia {
+
+    private ReactiveMorphia() {
+    }
+
+    /**
+     * Creates a ReactiveDatastore configured via config file
+     *
+     * @param mongoClient the client to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient) {
+        return new ReactiveDatastore(mongoClient, MorphiaConfig.load());
+    }
+
+    /**
+     * Creates a ReactiveDatastore with the given configuration
+     *
+     * @param mongoClient the client to use
+     * @param config      the configuration to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient, MorphiaConfig config) {
+        return new ReactiveDatastore(mongoClient, config);
+    }
+
+    /**
+     * Creates a ReactiveDatastore with the given configuration and classloader.
+     *
+     * @param mongoClient the client to use
+     * @param config      the configuration to use
+     * @param classLoader the classloader to use for class and resource resolution
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient, MorphiaConfig config, ClassLoader classLoader) {
+        return new ReactiveDatastore(mongoClient, config, classLoader);
+    }
+}
@@ -0,0 +1,251 @@
+package dev.morphia.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Operations;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Mono;
+
+import static dev.morphia.mapping.codec.CodecHelper.document;
+import static java.util.Arrays.asList;
+
+/**
+ * A query against a {@link ReactiveDatastore}. Filters and updates are the same ones used with {@link dev.morphia.query.Query} and are
+ * encoded by the same codecs. Nothing is sent to the server until a returned {@link Publisher} is subscribed to.
+ *
+ * @param <T> the query type
+ * @since 3.0
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class ReactiveQuery<T> {
+    private final ReactiveDatastore datastore;
+    private final Class<T> type;
+    private final List<Filter> filters = new ArrayList<>();
+    private boolean validate = true;
+
+    ReactiveQuery(ReactiveDatastore datastore, Class<T> type) {
+        this.datastore = datastore;
+        this.type = type;
+    }
+
+    /**
+     * Adds filters to this query
+     *
+     * @param filters the filters
+     * @return this
+     */
+    public ReactiveQuery<T> filter(Filter... filters) {
+        for (Filter filter : filters) {
+            this.filters.add(filter
+                    .entityType(type)
+                    .isValidating(validate));
+        }
+        return this;
+    }
+
+    /**
+     * Turns off validation of the filter paths
+     *
+     * @return this
+     */
+    public ReactiveQuery<T> disableValidation() {
+        validate = false;
+        return this;
+    }
+
+    /**
+     * Turns on validation of the filter paths
+     *
+     * @return this
+     */
+    public ReactiveQuery<T> enableValidation() {
+        validate = true;
+        return this;
+    }
+
+    /**
+     * @return a publisher of the matching entities
+     */
+    public Publisher<T> iterator() {
+        return iterator(new FindOptions());
+    }
+
+    /**
+     * @param options the options to apply
+     * @return a publisher of the matching entities
+     */
+    public Publisher<T> iterator(FindOptions options) {
+        return Mono.fromCallable(this::toDocument)
+                .flatMapMany(query -> {
+                    MongoCollection<T> collection = collection(options.collection());
+                    ReadPreference readPreference = options.readPreference();
+                    if (readPreference != null) {
+                        collection = collection.withReadPreference(readPreference);
+                    }
+                    ReadConcern readConcern = options.readConcern();
+                    if (readConcern != null) {
+                        collection = collection.withReadConcern(readConcern);
+                    }
+                    return apply(collection.find(query), options, datastore.getMapper(), type);
+                });
+    }
+
+    /**
+     * @return a publisher of the first matching entity
+     */
+    public Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * @param options the options to apply
+     * @return a publisher of the first matching entity
+     */
+    public Publisher<T> first(FindOptions options) {
+        return Mono.from(iterator(options.copy().limit(1)));
+    }
+
+    /**
+     * @return a publisher of the number of matching documents
+     */
+    public Publisher<Long> count() {
+        return Mono.fromCallable(this::toDocument)
+                .flatMap(query -> Mono.from(collection(null).countDocuments(query)));
+    }
+
+    /**
+     * Deletes the first matching document or, with {@link DeleteOptions#multi(boolean)}, every matching document
+     *
+     * @param options the options to apply
+     * @return a publisher of the result
+     */
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        return Mono.fromCallable(this::toDocument)
+                .flatMap(query -> {
+                    MongoCollection<T> collection = configure(collection(options.collection()), options.writeConcern());
+                    return Mono.from(options.multi()
+                            ? collection.deleteMany(query, options)
+                            : collection.deleteOne(query, options));
+                });
+    }
+
+    /**
+     * Updates the first matching document or, with {@link UpdateOptions#multi(boolean)}, every matching document
+     *
+     * @param options the options to apply
+     * @param updates the updates to apply
+     * @return a publisher of the result
+     */
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator... updates) {
+        return Mono.fromCallable(() -> {
+            EntityModel model = datastore.getMapper().getEntityModel(type);
+            Bson update = new Operations(datastore.host(), model, asList(updates), validate).toBson(datastore.host());
+            Document query = toDocument();
+            if (options.isUpsert() && model.useDiscriminator()) {
+                query.put(model.discriminatorKey(), model.discriminator());
+            }
+            return new Bson[] { query, update };
+        }).flatMap(encoded -> {
+            MongoCollection<T> collection = configure(collection(options.collection()), options.writeConcern());
+            return Mono.from(options.multi()
+                    ? collection.updateMany(encoded[0], encoded[1], options)
+                    : collection.updateOne(encoded[0], encoded[1], options));
+        });
+    }
+
+    /**
+     * @return the encoded query
+     */
+    public Document toDocument() {
+        Mapper mapper = datastore.getMapper();
+        DocumentWriter writer = new DocumentWriter(mapper.getConfig());
+        document(writer, () -> {
+            EncoderContext context = EncoderContext.builder().build();
+            for (Filter filter : filters) {
+                Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                codec.encode(writer, filter, context);
+            }
+        });
+
+        Document query = writer.getDocument();
+        if (mapper.isMappable(type)) {
+            mapper.updateQueryWithDiscriminators(mapper.getEntityModel(type), query);
+        }
+        return query;
+    }
+
+    private MongoCollection<T> collection(@Nullable String alternate) {
+        return datastore.getCollection(type, alternate);
+    }
+
+    private static <C> MongoCollection<C> configure(MongoCollection<C> collection, @Nullable WriteConcern writeConcern) {
+        return writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+    }
+
+    /**
+     * The reactive counterpart of {@link FindOptions#apply(com.mongodb.client.FindIterable, Mapper, Class)}
+     */
+    private static <T> FindPublisher<T> apply(FindPublisher<T> publisher, FindOptions options, Mapper mapper, Class<T> type) {
+        if (options.isLogQuery()) {
+            options.logQuery(); //  reset to a new ID
+        }
+        publisher.projection(options.mappedProjection(mapper, type));
+
+        publisher.allowDiskUse(options.allowDiskUse());
+        if (options.batchSize() > 0) {
+            // any explicit batch size, even 0, stops the driver sizing each batch from the subscriber's demand
+            publisher.batchSize(options.batchSize());
+        }
+        publisher.collation(options.collation());
+        publisher.comment(options.comment());
+        if (options.cursorType() != null) {
+            publisher.cursorType(options.cursorType());
+        }
+        publisher.hint(options.hint());
+        publisher.hintString(options.hintString());
+        publisher.limit(options.limit());
+        publisher.max(options.max());
+        publisher.maxAwaitTime(options.maxAwaitTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.maxTime(options.maxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.min(options.min());
+        publisher.noCursorTimeout(options.noCursorTimeout());
+        publisher.partial(options.partial());
+        publisher.returnKey(options.returnKey());
+        publisher.showRecordId(options.showRecordId());
+        publisher.skip(options.skip());
+        Document sort = options.mappedSort(mapper, type);
+        if (sort != null) {
+            publisher.sort(sort);
+        }
+        publisher.let(options.let());
+        if (options.timeoutMode() != null) {
+            publisher.timeoutMode(options.timeoutMode());
+        }
+        return publisher;
+    }
+}
@@ -0,0 +1,280 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.WriteConcern;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Version;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Sort;
+import dev.morphia.test.MongoExtension;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.errors.unknownConcern.UnknownConcern;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.aggregation.stages.Sort.sort;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gte;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestReactiveDatastore extends TestBase {
+    private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+    private MongoClient client;
+    private ReactiveDatastore datastore;
+
+    public TestReactiveDatastore() {
+        super(buildConfig(Book.class, Edition.class));
+    }
+
+    @BeforeEach
+    public void connect() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .applyToClusterSettings(builder -> builder
+                        .hosts(MongoExtension.getMongoClient().getClusterDescription().getClusterSettings().getHosts()))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        commands.add(event.getCommand().clone());
+                    }
+                })
+                .build());
+        datastore = ReactiveMorphia.createDatastore(client, morphiaConfig);
+        Mono.from(datastore.find(Book.class).delete(new DeleteOptions().multi(true))).block();
+        Mono.from(datastore.find(Edition.class).delete(new DeleteOptions().multi(true))).block();
+    }
+
+    @AfterEach
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void testSaveAndFind() {
+        Book book = Mono.from(datastore.save(new Book("Dune", "Herbert", 412))).block();
+        assertNotNull(book.id);
+
+        Book loaded = Mono.from(datastore.find(Book.class).filter(eq("title", "Dune")).first()).block();
+        assertEquals(book, loaded);
+
+        // the synchronous datastore reads the same documents
+        assertEquals(book, getDs().find(Book.class).filter(eq("title", "Dune")).first());
+    }
+
+    @Test
+    public void testEntityWriteConcern() {
+        assertEquals(WriteConcern.JOURNALED, datastore.getCollection(Journaled.class).getWriteConcern());
+        assertEquals(getDs().getCollection(Journaled.class).getWriteConcern(), datastore.getCollection(Journaled.class).getWriteConcern());
+
+        MappingException exception = assertThrows(MappingException.class, () -> datastore.getCollection(UnknownConcern.class));
+        assertEquals(assertThrows(MappingException.class, () -> getDs().getCollection(UnknownConcern.class)).getMessage(),
+                exception.getMessage());
+    }
+
+    @Test
+    public void testVersionedSave() {
+        Edition edition = Mono.from(datastore.save(new Edition("Dune", 1))).block();
+        assertEquals(1L, edition.version);
+
+        Edition stale = getDs().find(Edition.class).filter(eq("_id", edition.id)).first();
+        edition.printing = 2;
+        Mono.from(datastore.save(edition)).block();
+        assertEquals(2L, edition.version);
+
+        stale.printing = 3;
+        assertThrows(VersionMismatchException.class, () -> Mono.from(datastore.save(stale)).block());
+        // a failed save leaves the entity as it was so it can be reloaded and tried again
+        assertEquals(1L, stale.version);
+
+        Edition loaded = Mono.from(datastore.find(Edition.class).filter(eq("_id", edition.id)).first()).block();
+        assertEquals(2, loaded.printing);
+        assertEquals(2L, loaded.version);
+    }
+
+    @Test
+    public void testInsertUpdateAndCount() {
+        Mono.from(datastore.insert(List.of(new Book("Emma", "Austen", 474),
+                new Book("Persuasion", "Austen", 249),
+                new Book("Ulysses", "Joyce", 730)))).block();
+
+        assertEquals(2L, Mono.from(datastore.find(Book.class).filter(eq("author", "Austen")).count()).block());
+
+        Mono.from(datastore.find(Book.class)
+                .filter(eq("author", "Austen"))
+                .update(new UpdateOptions().multi(true), inc("pages", 1))).block();
+
+        List<Book> books = Flux.from(datastore.find(Book.class)
+                .filter(gte("pages", 250))
+                .iterator(new FindOptions().sort(Sort.ascending("pages")).batchSize(1)))
+                .collectList()
+                .block();
+        assertEquals(List.of("Persuasion", "Emma", "Ulysses"), books.stream().map(b -> b.title).toList());
+        assertEquals(250, books.get(0).pages);
+    }
+
+    @Test
+    public void testDemandSizesBatches() {
+        Mono.from(datastore.insert(List.of(new Book("Emma", "Austen", 474),
+                new Book("Persuasion", "Austen", 249),
+                new Book("Ulysses", "Joyce", 730),
+                new Book("Dune", "Herbert", 412),
+                new Book("Beloved", "Morrison", 324)))).block();
+        commands.clear();
+
+        List<Book> books = Flux.from(datastore.find(Book.class).iterator())
+                .limitRate(2)
+                .collectList()
+                .block();
+        assertEquals(5, books.size());
+
+        // with no batch size set each batch is sized from what the subscriber has requested
+        BsonDocument find = commands.stream()
+                .filter(command -> command.containsKey("find"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, find.getInt32("batchSize").intValue());
+        List<BsonDocument> getMores = commands.stream()
+                .filter(command -> command.containsKey("getMore"))
+                .toList();
+        assertFalse(getMores.isEmpty());
+        assertTrue(getMores.stream().allMatch(command -> command.getInt32("batchSize").intValue() <= 2), getMores::toString);
+    }
+
+    @Test
+    public void testAggregate() {
+        Mono.from(datastore.insert(List.of(new Book("Emma", "Austen", 474),
+                new Book("Persuasion", "Austen", 249),
+                new Book("Ulysses", "Joyce", 730)))).block();
+
+        List<Document> totals = Flux.from(datastore.aggregate(Book.class)
+                .pipeline(group(id("$author")).field("pages", sum("$pages")),
+                        sort().ascending("_id"))
+                .execute(Document.class))
+                .collectList()
+                .block();
+
+        assertEquals(List.of(new Document("_id", "Austen").append("pages", 723),
+                new Document("_id", "Joyce").append("pages", 730)), totals);
+    }
+
+    @Test
+    public void testReferencesRejected() {
+        assertThrows(MappingException.class, () -> Flux.from(datastore.find(Shelf.class).iterator()).blockFirst());
+        assertThrows(MappingException.class, () -> Mono.from(datastore.insert(new Shelf())).block());
+        assertThrows(MappingException.class, () -> Flux.from(datastore.aggregate(Book.class).execute(Shelf.class)).blockFirst());
+        assertThrows(MappingException.class, () -> datastore.getCollection(Library.class));
+    }
+
+    @Entity("reactive_books")
+    private static class Book {
+        @Id
+        private ObjectId id;
+        private String title;
+        private String author;
+        private int pages;
+
+        Book() {
+        }
+
+        Book(String title, String author, int pages) {
+            this.title = title;
+            this.author = author;
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Book)) {
+                return false;
+            }
+            Book book = (Book) o;
+            return pages == book.pages && Objects.equals(id, book.id) && Objects.equals(title, book.title)
+                    && Objects.equals(author, book.author);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, title, author, pages);
+        }
+    }
+
+    @Entity(value = "reactive_journaled", concern = "JOURNALED")
+    private static class Journaled {
+        @Id
+        private ObjectId id;
+    }
+
+    @Entity("reactive_shelves")
+    private static class Shelf {
+        @Id
+        private ObjectId id;
+        @Reference
+        private List<Book> books;
+    }
+
+    @Entity("reactive_libraries")
+    private static class Library {
+        @Id
+        private ObjectId id;
+        private Wing wing;
+    }
+
+    @Entity
+    private static class Wing {
+        @Reference
+        private Book featured;
+    }
+
+    @Entity("reactive_editions")
+    private static class Edition {
+        @Id
+        private ObjectId id;
+        private String title;
+        private int printing;
+        @Version
+        private Long version;
+
+        Edition() {
+        }
+
+        Edition(String title, int printing) {
+            this.title = title;
+            this.printing = printing;
+        }
+    }
+}